@@ -0,0 +1,79 @@
+package com.JobNest.companyms.cache;
+
+import com.JobNest.companyms.dto.CompanyDto;
+import com.JobNest.companyms.dto.CompanyInclude;
+import com.JobNest.companyms.events.CompanyChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Function;
+
+// Assembled CompanyDto keyed by company id and requested includes, bounded by size and TTL
+@Component
+public class CompanyAggregateCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CompanyAggregateCache.class);
+    private static final String CACHE_NAME = "company.aggregate";
+    private static final int INCLUDE_COMBINATIONS = 1 << CompanyInclude.values().length;
+    private final Cache<Key, CompanyDto> cache;
+
+    // Constructor Injection
+    public CompanyAggregateCache(
+            MeterRegistry meterRegistry,
+            @Value("${company.cache.maximum-size:10000}") long maximumSize,
+            @Value("${company.cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.load.duration, cache.evictions ...
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    // Concurrent misses for the same key block on a single loader call.
+    // A null result (company not found) is not cached.
+    public CompanyDto get(Long companyId, Set<CompanyInclude> includes, Function<Long, CompanyDto> loader) {
+        Key key = new Key(companyId, CompanyInclude.mask(includes));
+        CompanyDto companyDto = cache.get(key, k -> loader.apply(k.companyId()));
+        if (companyDto != null && Boolean.FALSE.equals(companyDto.getJobsAvailable())) {
+            // Partial response, keep it out of the cache so the next read retries job-service
+            cache.asMap().remove(key, companyDto);
+        }
+        return companyDto;
+    }
+
+    // Few include combinations exist, each possible key is invalidated directly
+    public void evict(Long companyId) {
+        for (int mask = 0; mask < INCLUDE_COMBINATIONS; mask++) {
+            cache.invalidate(new Key(companyId, mask));
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    // Evict after commit, so a concurrent miss cannot reload the old row and cache it again
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        log.info("Evicting cached company ID: {}", event.companyId());
+        evict(event.companyId());
+    }
+
+    private record Key(Long companyId, int includeMask) {
+    }
+}
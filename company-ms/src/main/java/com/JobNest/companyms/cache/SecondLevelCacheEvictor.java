@@ -0,0 +1,48 @@
+package com.JobNest.companyms.cache;
+
+import com.JobNest.companyms.config.HibernateCacheConfig;
+import com.JobNest.companyms.entities.Company;
+import com.JobNest.companyms.events.CompanyChangedEvent;
+import org.hibernate.SessionFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.persistence.EntityManagerFactory;
+
+// Hibernate keeps its second-level cache current for writes made through JPA.
+// Ratings, imports and rebuilds update company_tb with plain JDBC, those rows are evicted here.
+@Component
+public class SecondLevelCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SecondLevelCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    // Runs before the other after-commit listeners, which re-read the company.
+    // Cached query results were selected against the old row and are dropped as well.
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        evictCompany(event.companyId());
+    }
+
+    // Also called for changes committed by other instances, see CompanyMsgConsumer
+    public void evictCompany(Long companyId) {
+        entityManagerFactory.getCache().evict(Company.class, companyId);
+        evictCompanyQueries();
+    }
+
+    // Bulk JDBC writes may add rows, cached query results are dropped with the entities
+    public void evictAllCompanies() {
+        entityManagerFactory.getCache().evict(Company.class);
+        evictCompanyQueries();
+    }
+
+    private void evictCompanyQueries() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegion(HibernateCacheConfig.COMPANY_QUERY_REGION);
+    }
+}
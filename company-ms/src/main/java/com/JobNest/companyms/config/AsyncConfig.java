@@ -0,0 +1,40 @@
+package com.JobNest.companyms.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // Bounded pool for the job-service lookups of a company read. Rejected tasks are skipped
+    // instead of running on the request thread, the company is returned without job data.
+    @Bean
+    public ThreadPoolTaskExecutor fanOutExecutor(
+            @Value("${company.fanout.pool-size:16}") int poolSize,
+            @Value("${company.fanout.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("company-fanout-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // Runs the partitions of a rating rebuild, the parallelism bounds the load on Reviews-Service
+    @Bean
+    public ThreadPoolTaskExecutor ratingRebuildExecutor(
+            @Value("${company.rating.rebuild.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setThreadNamePrefix("rating-rebuild-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,40 @@
+package com.JobNest.companyms.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+// JPA cannot declare FULLTEXT indexes, so the one behind Company.findByFullText* is created here
+// when missing. Words shorter than innodb_ft_min_token_size (default 3) are not indexed.
+@Component
+@ConditionalOnProperty(name = "company.search.mode", havingValue = "fulltext")
+public class FullTextIndexInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(FullTextIndexInitializer.class);
+    private static final String INDEX_NAME = "ft_company_search";
+    private final JdbcTemplate jdbcTemplate;
+
+    // EntityManagerFactory dependency makes sure the schema exists before the index is created,
+    // and the index exists before the web server accepts search requests
+    public FullTextIndexInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void createIndex() {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'company_tb' AND index_name = ?",
+                Integer.class, INDEX_NAME);
+        if (existing != null && existing > 0) {
+            return;
+        }
+        jdbcTemplate.execute("CREATE FULLTEXT INDEX " + INDEX_NAME + " ON company_tb (name, industry, location)");
+        log.info("FULLTEXT index {} created on company_tb", INDEX_NAME);
+    }
+}
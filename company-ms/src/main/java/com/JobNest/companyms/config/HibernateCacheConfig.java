@@ -0,0 +1,58 @@
+package com.JobNest.companyms.config;
+
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+
+// Local JCache (Ehcache) regions behind the Hibernate second-level and query cache.
+// Every region is declared here, hibernate.javax.cache.missing_cache_strategy=fail
+// rejects any region an entity or query refers to without being configured.
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String COMPANY_REGION = "company";
+    public static final String COMPANY_QUERY_REGION = "company-queries";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${company.hibernate-cache.entity-max-entries:10000}") long entityMaxEntries,
+            @Value("${company.hibernate-cache.query-max-entries:1000}") long queryMaxEntries,
+            @Value("${company.hibernate-cache.ttl:5m}") Duration ttl) {
+        CachingProvider cachingProvider = Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        // Ehcache reads any other URI as an XML configuration, the regions are configured in code instead
+        CacheManager cacheManager = cachingProvider.getCacheManager(cachingProvider.getDefaultURI(), getClass().getClassLoader());
+
+        // Expiry bounds staleness across instances, each one only sees its own writes
+        cacheManager.createCache(COMPANY_REGION, regionConfig(entityMaxEntries, ttl));
+        cacheManager.createCache(COMPANY_QUERY_REGION, regionConfig(queryMaxEntries, ttl));
+        cacheManager.createCache("default-query-results-region", regionConfig(queryMaxEntries, ttl));
+        // Table modification timestamps that invalidate cached query results,
+        // must outlive every query region and is never expired
+        cacheManager.createCache("default-update-timestamps-region", Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(1000))));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static javax.cache.configuration.Configuration<Object, Object> regionConfig(long maxEntries, Duration ttl) {
+        return Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                        .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(ttl)));
+    }
+}
@@ -0,0 +1,35 @@
+package com.JobNest.companyms.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+// Topics owned by Company-Service, created or grown to the partition count by KafkaAdmin at startup.
+// Records are keyed by company id, every partition keeps the order of its companies.
+@Configuration
+public class KafkaTopicConfig {
+
+    @Bean
+    public NewTopic companyDeletedTopic(
+            @Value("${company.kafka.topic.partitions:3}") int partitions,
+            @Value("${company.kafka.topic.replicas:1}") int replicas) {
+        return TopicBuilder.name("company-deleted-topic").partitions(partitions).replicas(replicas).build();
+    }
+
+    @Bean
+    public NewTopic companyDeletionAckTopic(
+            @Value("${company.kafka.topic.partitions:3}") int partitions,
+            @Value("${company.kafka.topic.replicas:1}") int replicas) {
+        return TopicBuilder.name("company-deletion-ack-topic").partitions(partitions).replicas(replicas).build();
+    }
+
+    // Cache invalidation broadcast, consumed by every instance
+    @Bean
+    public NewTopic companyChangedTopic(
+            @Value("${company.kafka.topic.partitions:3}") int partitions,
+            @Value("${company.kafka.topic.replicas:1}") int replicas) {
+        return TopicBuilder.name("company-changed-topic").partitions(partitions).replicas(replicas).build();
+    }
+}
@@ -1,27 +1,47 @@
 package com.JobNest.companyms.controllers;
 
 import com.JobNest.companyms.dto.CompanyDto;
+import com.JobNest.companyms.dto.CompanyImportReport;
+import com.JobNest.companyms.dto.CompanyInclude;
+import com.JobNest.companyms.dto.CompanyPageDto;
+import com.JobNest.companyms.dto.CompanyProfileDto;
+import com.JobNest.companyms.dto.RatingRebuildStatus;
 import com.JobNest.companyms.entities.Company;
 import com.JobNest.companyms.helper.ApiResponse;
+import com.JobNest.companyms.index.FacetCounts;
 import com.JobNest.companyms.helper.ResponseBuilder;
+import com.JobNest.companyms.service.CompanyImportService;
 import com.JobNest.companyms.service.CompanyService;
+import com.JobNest.companyms.service.RatingRebuildService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Size;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
+@Validated
 @RequestMapping("/api/companies")
 public class CompanyController {
 
     private static final Logger log = LoggerFactory.getLogger(CompanyController.class);
     private final CompanyService companyService;
+    private final CompanyImportService importService;
+    private final RatingRebuildService rebuildService;
     private final ResponseBuilder responseBuilder;
 
     private boolean success;
@@ -30,8 +50,14 @@ public class CompanyController {
 
     // Constructor
     @Autowired
-    public CompanyController(CompanyService companyService, ResponseBuilder responseBuilder) {
+    public CompanyController(
+            CompanyService companyService,
+            CompanyImportService importService,
+            RatingRebuildService rebuildService,
+            ResponseBuilder responseBuilder) {
         this.companyService = companyService;
+        this.importService = importService;
+        this.rebuildService = rebuildService;
         this.responseBuilder = responseBuilder;
     }
 
@@ -49,6 +75,49 @@ public class CompanyController {
         return new ResponseEntity<>(response, httpStatus);
     }
 
+    // Streams the request body, the upload is never held in memory as a whole
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ApiResponse<CompanyImportReport>> importCompanies(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) throws IOException {
+        log.info("POST request received to import companies as {}", contentType);
+        CompanyImportReport report = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.valueOf("text/csv"))
+                ? importService.importCsv(body)
+                : importService.importNdjson(body);
+
+        success = report.getFailed() == 0;
+        message = report.getImported() + " companies imported, " + report.getFailed() + " rows failed";
+        httpStatus = HttpStatus.OK;
+
+        ApiResponse<CompanyImportReport> response = responseBuilder.buildResponseWithImportReport(report, success, message, httpStatus);
+        return new ResponseEntity<>(response, httpStatus);
+    }
+
+    // Rebuilds every rating from Reviews-Service in the background, poll the GET variant for progress
+    @PostMapping("/admin/ratings/rebuild")
+    public ResponseEntity<ApiResponse<RatingRebuildStatus>> startRatingRebuild() {
+        log.info("POST request received to rebuild all company ratings");
+        RatingRebuildStatus rebuildStatus = rebuildService.startRebuild();
+
+        success = true;
+        message = "Rating rebuild " + rebuildStatus.getState().name().toLowerCase();
+        httpStatus = HttpStatus.ACCEPTED;
+
+        ApiResponse<RatingRebuildStatus> response = responseBuilder.buildResponseWithRebuildStatus(rebuildStatus, success, message, httpStatus);
+        return new ResponseEntity<>(response, httpStatus);
+    }
+
+    @GetMapping("/admin/ratings/rebuild")
+    public ResponseEntity<ApiResponse<RatingRebuildStatus>> getRatingRebuildStatus() {
+        RatingRebuildStatus rebuildStatus = rebuildService.getStatus();
+
+        success = rebuildStatus != null;
+        message = success ? "Rating rebuild " + rebuildStatus.getState().name().toLowerCase() : "No rating rebuild has run";
+        httpStatus = success ? HttpStatus.OK : HttpStatus.NOT_FOUND;
+
+        ApiResponse<RatingRebuildStatus> response = responseBuilder.buildResponseWithRebuildStatus(rebuildStatus, success, message, httpStatus);
+        return new ResponseEntity<>(response, httpStatus);
+    }
+
     @PutMapping("/{compId}")
     public ResponseEntity<ApiResponse<String>> updateCompany(@PathVariable Long compId, @RequestBody Company newCompany) {
         log.info("PUT request received to update company with ID: {}", compId);
@@ -60,10 +129,49 @@ public class CompanyController {
         return new ResponseEntity<>(response, httpStatus);
     }
 
+    // Keyset pagination, pass nextAfterRating/nextAfterId of the previous page as afterRating/afterId
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CompanyDto>>> getAllCompanies() {
-        log.info("*** Received GET request to fetch all companies ***");
-        List<CompanyDto> companyDtos = companyService.getCompanies();
+    public ResponseEntity<ApiResponse<CompanyPageDto>> getAllCompanies(
+            @RequestParam(required = false) String industry,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Double afterRating,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        log.info("*** Received GET request to fetch companies page ***");
+        CompanyPageDto companyPage = companyService.getCompanies(industry, location, afterRating, afterId, size);
+
+        success = !companyPage.getCompanies().isEmpty();
+        message = success ? "Companies fetched successfully" : "No companies data available";
+        httpStatus = success ? HttpStatus.OK : HttpStatus.NOT_FOUND;
+
+        ApiResponse<CompanyPageDto> response = responseBuilder.buildResponseWithPage(companyPage, success, message, httpStatus);
+        return new ResponseEntity<>(response, httpStatus);
+    }
+
+    // Header projection (id, name, industry, location, rating) for many ids, read from the summary
+    // index without loading entities. For callers that only label results, e.g. Search-Service.
+    // Full companies come from POST /batch. Unknown or deleted ids are left out, the answer is 200.
+    @GetMapping(value = "/headers", params = "ids")
+    public ResponseEntity<ApiResponse<List<CompanyDto>>> getCompanyHeaders(
+            @RequestParam @Size(min = 1, max = 100) Set<Long> ids) {
+        log.info("GET request received to fetch headers of {} companies", ids.size());
+        List<CompanyDto> companyDtos = companyService.getCompanyHeaders(ids);
+
+        success = true;
+        message = "Companies fetched successfully";
+        httpStatus = HttpStatus.OK;
+
+        ApiResponse<List<CompanyDto>> response = responseBuilder.buildResponseWithData(companyDtos, success, message, httpStatus);
+        return new ResponseEntity<>(response, httpStatus);
+    }
+
+    // Top rated companies from the in-memory leaderboard, optionally within one industry
+    @GetMapping("/top")
+    public ResponseEntity<ApiResponse<List<CompanyDto>>> getTopCompanies(
+            @RequestParam(required = false) String industry,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int limit) {
+        log.info("GET request received to fetch top {} companies", limit);
+        List<CompanyDto> companyDtos = companyService.getTopCompanies(industry, limit);
 
         success = !companyDtos.isEmpty();
         message = success ? "Companies fetched successfully" : "No companies data available";
@@ -73,10 +181,45 @@ public class CompanyController {
         return new ResponseEntity<>(response, httpStatus);
     }
 
+    // Name autocomplete from the in-memory trie, answers 200 with a possibly empty list
+    @GetMapping("/typeahead")
+    public ResponseEntity<ApiResponse<List<CompanyDto>>> getCompanyNameSuggestions(
+            @RequestParam @Size(max = 50) String prefix,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(10) int limit) {
+        List<CompanyDto> companyDtos = companyService.getCompanyNameSuggestions(prefix, limit);
+
+        success = true;
+        message = companyDtos.isEmpty() ? "No companies match the given prefix" : "Companies fetched successfully";
+        httpStatus = HttpStatus.OK;
+
+        ApiResponse<List<CompanyDto>> response = responseBuilder.buildResponseWithData(companyDtos, success, message, httpStatus);
+        return new ResponseEntity<>(response, httpStatus);
+    }
+
+    // Directory facet counts, e.g. industries within a location. Matching companies are
+    // listed by GET /api/companies with the same industry/location filters.
+    @GetMapping("/facets")
+    public ResponseEntity<ApiResponse<FacetCounts>> getCompanyFacets(
+            @RequestParam(required = false) String industry,
+            @RequestParam(required = false) String location) {
+        log.info("GET request received to fetch company facets, industry: {}, location: {}", industry, location);
+        FacetCounts facetCounts = companyService.getCompanyFacets(industry, location);
+
+        success = true;
+        message = facetCounts.total() + " companies match";
+        httpStatus = HttpStatus.OK;
+
+        ApiResponse<FacetCounts> response = responseBuilder.buildResponseWithFacets(facetCounts, success, message, httpStatus);
+        return new ResponseEntity<>(response, httpStatus);
+    }
+
+    // Header only by default, remote enrichments are fetched only when listed in include
     @GetMapping("/{compId}")
-    public ResponseEntity<ApiResponse<CompanyDto>> getCompanyById(@PathVariable Long compId) {
-        log.info("GET request received to fetch company by ID: {}", compId);
-        CompanyDto companyDto = companyService.getCompanyById(compId);
+    public ResponseEntity<ApiResponse<CompanyDto>> getCompanyById(
+            @PathVariable Long compId,
+            @RequestParam(required = false) List<String> include) {
+        log.info("GET request received to fetch company by ID: {}, include: {}", compId, include);
+        CompanyDto companyDto = companyService.getCompanyById(compId, CompanyInclude.parse(include));
 
         success = companyDto != null;
         message = success ? "Company fetched successfully" : "Company ID: " + compId + " not found";
@@ -86,11 +229,42 @@ public class CompanyController {
         return new ResponseEntity<>(response, httpStatus);
     }
 
+    // Profile page data from the local read model, stays available while job and review services are down
+    @GetMapping("/{compId}/profile")
+    public ResponseEntity<ApiResponse<CompanyProfileDto>> getCompanyProfile(@PathVariable Long compId) {
+        log.info("GET request received to fetch profile of company ID: {}", compId);
+        CompanyProfileDto profileDto = companyService.getCompanyProfile(compId);
+
+        success = profileDto != null;
+        message = success ? "Company profile fetched successfully" : "Company ID: " + compId + " not found";
+        httpStatus = success ? HttpStatus.OK : HttpStatus.NOT_FOUND;
+
+        ApiResponse<CompanyProfileDto> response = responseBuilder.buildResponseWithProfile(profileDto, success, message, httpStatus);
+        return new ResponseEntity<>(response, httpStatus);
+    }
+
+    // Full companies for many ids, for aggregating callers that render them, e.g. GraphQL-Service.
+    // Callers that only need names use GET /headers. Always answers 200 with a possibly empty list.
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<CompanyDto>>> getCompaniesByIds(
+            @RequestBody @Size(min = 1, max = 100) Set<Long> ids) {
+        log.info("POST request received to fetch {} companies by ID", ids.size());
+        List<CompanyDto> companyDtos = companyService.getCompaniesByIds(ids);
+
+        success = true;
+        message = "Companies fetched successfully";
+        httpStatus = HttpStatus.OK;
+
+        ApiResponse<List<CompanyDto>> response = responseBuilder.buildResponseWithData(companyDtos, success, message, httpStatus);
+        return new ResponseEntity<>(response, httpStatus);
+    }
+
     @DeleteMapping("/{companyId}")
     public ResponseEntity<ApiResponse<String>> deleteCompanyById(@PathVariable Long companyId) {
         success = companyService.deleteCompanyById(companyId);
-        message = success ? "Company deleted successfully" : "Company ID: " + companyId + " not found";
-        httpStatus = success ? HttpStatus.OK : HttpStatus.NOT_FOUND;
+        message = success ? "Company deletion accepted" : "Company ID: " + companyId + " not found";
+        // Jobs, reviews and the company row are removed asynchronously
+        httpStatus = success ? HttpStatus.ACCEPTED : HttpStatus.NOT_FOUND;
 
         ApiResponse<String> response = responseBuilder.buildResponseWithoutData(success, message, httpStatus);
         return new ResponseEntity<>(response, httpStatus);
@@ -111,9 +285,11 @@ public class CompanyController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<CompanyDto>>> searchJobsByKeyword(@Valid @RequestParam("keyword") String keyword) {
+    public ResponseEntity<ApiResponse<List<CompanyDto>>> searchJobsByKeyword(
+            @Valid @RequestParam("keyword") String keyword,
+            @RequestParam(defaultValue = "false") boolean booleanMode) {
         log.info("*** Received GET request to search companies ***");
-        List<CompanyDto> companyDtos = companyService.getCompanyByKeyword(keyword);
+        List<CompanyDto> companyDtos = companyService.getCompanyByKeyword(keyword, booleanMode);
         log.info("Returning {} companies.", companyDtos.size());
 
         success = !companyDtos.isEmpty();
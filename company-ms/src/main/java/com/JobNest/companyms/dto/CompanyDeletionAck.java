@@ -0,0 +1,17 @@
+package com.JobNest.companyms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Sent by Job-Service and Reviews-Service once their data of a deleted company is removed
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompanyDeletionAck {
+    private Long companyId;
+    private String service;
+
+}
@@ -19,6 +19,16 @@ public class CompanyDto {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<JobDto> jobs;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long jobCount;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ReviewsSummary reviewsSummary;
+
+    // false when requested job data could not be fetched in time and the response is partial
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean jobsAvailable;
+
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private String jobsUrl;
 
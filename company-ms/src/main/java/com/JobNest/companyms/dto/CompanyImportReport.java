@@ -0,0 +1,22 @@
+package com.JobNest.companyms.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Outcome of one bulk import. Only the first errors are listed, failed counts all of them.
+@Getter
+@Setter
+public class CompanyImportReport {
+    private long processed;
+    private long imported;
+    private long failed;
+    private boolean errorsTruncated;
+    private List<RowError> errors = new ArrayList<>();
+
+    public record RowError(long line, String message) {
+    }
+
+}
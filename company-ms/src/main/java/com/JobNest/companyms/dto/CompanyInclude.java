@@ -0,0 +1,49 @@
+package com.JobNest.companyms.dto;
+
+import com.JobNest.companyms.exceptions.InvalidIncludeException;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+// Optional enrichments of a company read, requested with include=jobs,reviewsSummary,jobCount
+public enum CompanyInclude {
+    JOBS("jobs"),
+    REVIEWS_SUMMARY("reviewsSummary"),
+    JOB_COUNT("jobCount");
+
+    private final String param;
+
+    CompanyInclude(String param) {
+        this.param = param;
+    }
+
+    public static Set<CompanyInclude> parse(Collection<String> params) {
+        Set<CompanyInclude> includes = EnumSet.noneOf(CompanyInclude.class);
+        if (params == null) {
+            return includes;
+        }
+        for (String param : params) {
+            includes.add(fromParam(param.trim()));
+        }
+        return includes;
+    }
+
+    private static CompanyInclude fromParam(String param) {
+        for (CompanyInclude include : values()) {
+            if (include.param.equalsIgnoreCase(param)) {
+                return include;
+            }
+        }
+        throw new InvalidIncludeException("Unknown include: " + param);
+    }
+
+    // Compact cache key component, one bit per include
+    public static int mask(Set<CompanyInclude> includes) {
+        int mask = 0;
+        for (CompanyInclude include : includes) {
+            mask |= 1 << include.ordinal();
+        }
+        return mask;
+    }
+}
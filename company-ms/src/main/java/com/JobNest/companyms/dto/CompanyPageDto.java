@@ -0,0 +1,23 @@
+package com.JobNest.companyms.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// One page of companies ordered by averageRating desc, id asc.
+// nextAfterRating/nextAfterId are passed back as afterRating/afterId to fetch the next page.
+@Getter
+@Setter
+public class CompanyPageDto {
+    private List<CompanyDto> companies;
+    private boolean hasMore;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double nextAfterRating;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long nextAfterId;
+
+}
@@ -0,0 +1,31 @@
+package com.JobNest.companyms.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// Company profile served from the local read model, see CompanyProfileProjector
+@Getter
+@Setter
+public class CompanyProfileDto {
+    private Long id;
+    private String name;
+    private String description;
+    private String industry;
+    private String location;
+    private Double averageRating;
+    private long reviewCount;
+
+    // Star rating (1-5) to number of reviews
+    private Map<Integer, Long> ratingHistogram;
+
+    private long openJobCount;
+    private List<ProfileJob> latestJobs;
+    private LocalDateTime updatedAt;
+
+    public record ProfileJob(Long id, String title, String location, String postedAt) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.JobNest.companyms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Job change published by Job-Service with the job snapshot.
+// A null jobId with deleted=true removes all jobs of the company.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobEvent {
+    private Long companyId;
+    private Long jobId;
+    private boolean deleted;
+    private String title;
+    private String location;
+    private String postedAt;
+}
@@ -0,0 +1,19 @@
+package com.JobNest.companyms.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// The job fields of Job-Service a company profile keeps, read when a profile is backfilled
+@Getter
+@Setter
+public class ProfileJobDto {
+    private Long id;
+
+    private Long companyId;
+
+    private String title;
+
+    private String location;
+
+    private String postedAt;
+}
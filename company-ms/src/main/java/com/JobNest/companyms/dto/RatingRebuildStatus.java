@@ -0,0 +1,27 @@
+package com.JobNest.companyms.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// Snapshot of the latest rating rebuild, see RatingRebuildService
+@Getter
+@Setter
+public class RatingRebuildStatus {
+    public enum State { RUNNING, COMPLETED, FAILED }
+
+    private State state;
+    private int totalPartitions;
+    private int completedPartitions;
+    private int failedPartitions;
+    private long companiesUpdated;
+    private LocalDateTime startedAt;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDateTime finishedAt;
+
+    private double companiesPerSecond;
+
+}
@@ -0,0 +1,21 @@
+package com.JobNest.companyms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Rating aggregate of one company as computed by Reviews-Service
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingSummary {
+    private Long companyId;
+    private Double averageRating;
+    private Long reviewCount;
+    private Double ratingSum;
+    // yyyy-MM-dd HH:mm:ss, only filled by the per-id batch lookup
+    private String lastReviewAt;
+
+}
@@ -0,0 +1,18 @@
+package com.JobNest.companyms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Rating change of one company published by Reviews-Service, several events can be merged into one
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewEvent {
+    private Long companyId;
+    private double ratingDelta;
+    private long countDelta;
+
+}
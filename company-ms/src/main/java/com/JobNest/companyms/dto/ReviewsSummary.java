@@ -0,0 +1,16 @@
+package com.JobNest.companyms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewsSummary {
+    private Double averageRating;
+    private Long reviewCount;
+
+}
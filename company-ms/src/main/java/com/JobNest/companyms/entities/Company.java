@@ -1,8 +1,13 @@
 package com.JobNest.companyms.entities;
 
+import com.JobNest.companyms.config.HibernateCacheConfig;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
@@ -13,22 +18,67 @@ import javax.validation.constraints.Size;
         @NamedQuery(
                 name = "Company.findByKeyword",
                 query = "SELECT c FROM Company c " +
-                        "WHERE c.name LIKE :keyword " +
+                        "WHERE c.status = com.JobNest.companyms.entities.CompanyStatus.ACTIVE " +
+                        "AND (c.name LIKE :keyword " +
                         "OR c.industry LIKE :keyword " +
-                        "OR c.location LIKE :keyword"),
+                        "OR c.location LIKE :keyword)"),
         @NamedQuery(
                 name = "Company.searchCompany",
                 query = "SELECT c FROM Company c " +
                         "WHERE c.name=:name " +
                         "AND c.industry=:industry " +
-                        "AND c.location=:location")
+                        "AND c.location=:location " +
+                        "AND c.status = com.JobNest.companyms.entities.CompanyStatus.ACTIVE"),
+        // Keyset page: rows after (afterRating, afterId) in averageRating desc, id asc order
+        @NamedQuery(
+                name = "Company.findPageAfter",
+                query = "SELECT c FROM Company c " +
+                        "WHERE c.status = com.JobNest.companyms.entities.CompanyStatus.ACTIVE " +
+                        "AND (:industry IS NULL OR c.industry = :industry) " +
+                        "AND (:location IS NULL OR c.location = :location) " +
+                        "AND (:afterRating IS NULL " +
+                        "OR c.averageRating < :afterRating " +
+                        "OR (c.averageRating = :afterRating AND c.id > :afterId)) " +
+                        "ORDER BY c.averageRating DESC, c.id ASC")
+})
+
+// FULLTEXT search, used when company.search.mode=fulltext. Ordered by relevance, then rating.
+// The ft_company_search index is created by FullTextIndexInitializer.
+@NamedNativeQueries(value = {
+        @NamedNativeQuery(
+                name = "Company.findByFullText",
+                query = "SELECT * FROM company_tb " +
+                        "WHERE status = 'ACTIVE' " +
+                        "AND MATCH(name, industry, location) AGAINST (:keyword IN NATURAL LANGUAGE MODE) " +
+                        "ORDER BY MATCH(name, industry, location) AGAINST (:keyword IN NATURAL LANGUAGE MODE) DESC, " +
+                        "average_rating DESC",
+                resultClass = Company.class),
+        @NamedNativeQuery(
+                name = "Company.findByFullTextBoolean",
+                query = "SELECT * FROM company_tb " +
+                        "WHERE status = 'ACTIVE' " +
+                        "AND MATCH(name, industry, location) AGAINST (:keyword IN BOOLEAN MODE) " +
+                        "ORDER BY MATCH(name, industry, location) AGAINST (:keyword IN BOOLEAN MODE) DESC, " +
+                        "average_rating DESC",
+                resultClass = Company.class)
 })
 
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
 @Entity
-@Table(name = "company_tb")
+@Cacheable
+// Rating columns are also written with plain JDBC, those paths evict through SecondLevelCacheEvictor
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.COMPANY_REGION)
+@DynamicUpdate // entity saves must not overwrite rating_sum/review_count incremented concurrently in SQL
+@Table(name = "company_tb", uniqueConstraints = {
+        // Natural key used by the bulk import upsert
+        @UniqueConstraint(name = "uk_company_name_location", columnNames = {"name", "location"})
+}, indexes = {
+        @Index(name = "idx_company_rating_id", columnList = "average_rating DESC, id"),
+        @Index(name = "idx_company_industry_rating_id", columnList = "industry, average_rating DESC, id"),
+        @Index(name = "idx_company_location_rating_id", columnList = "location, average_rating DESC, id")
+})
 public class Company {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -51,4 +101,25 @@ public class Company {
 
     @NotNull(message = "Company averageRating is null")
     private Double averageRating;
+
+    // Running totals behind averageRating, maintained by review events only
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(nullable = false)
+    private Double ratingSum;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(nullable = false)
+    private Long reviewCount;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private CompanyStatus status;
+
+    @PrePersist
+    private void initRatingTotals() {
+        if (ratingSum == null) ratingSum = 0.0;
+        if (reviewCount == null) reviewCount = 0L;
+        if (status == null) status = CompanyStatus.ACTIVE;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.JobNest.companyms.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+// Progress of one company deletion saga, removed together with the company
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Entity
+@Table(name = "company_deletion_tb")
+public class CompanyDeletion {
+    @Id
+    private Long companyId;
+
+    private boolean jobsDeleted;
+
+    private boolean reviewsDeleted;
+
+    private LocalDateTime requestedAt;
+
+    private LocalDateTime lastPublishedAt;
+}
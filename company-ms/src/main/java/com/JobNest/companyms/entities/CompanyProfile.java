@@ -0,0 +1,62 @@
+package com.JobNest.companyms.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Denormalized company profile read model, one row per active company.
+// Kept up to date from company changes, job events and review events,
+// so a profile read is a single primary key lookup with no remote calls.
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Entity
+@Table(name = "company_profile_tb")
+public class CompanyProfile {
+    @Id
+    private Long companyId;
+
+    private String name;
+
+    private String description;
+
+    private String industry;
+
+    private String location;
+
+    private Double averageRating;
+
+    private long reviewCount;
+
+    // Review count per star bucket, 1 to 5
+    private long oneStarCount;
+
+    private long twoStarCount;
+
+    private long threeStarCount;
+
+    private long fourStarCount;
+
+    private long fiveStarCount;
+
+    private long openJobCount;
+
+    // Newest jobs first, stored as JSON in the profile row
+    @Convert(converter = ProfileJobsConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private List<CompanyProfileJob> latestJobs = new ArrayList<>();
+
+    private LocalDateTime updatedAt;
+
+    // Null until open jobs and the rating histogram were seeded from Job-Service and Reviews-Service
+    private LocalDateTime backfilledAt;
+
+    public CompanyProfile(Long companyId) {
+        this.companyId = companyId;
+    }
+}
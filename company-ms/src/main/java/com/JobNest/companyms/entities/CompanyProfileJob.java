@@ -0,0 +1,31 @@
+package com.JobNest.companyms.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+// Local copy of the open jobs of each company, projected from job events
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Entity
+@Table(name = "company_profile_job_tb", indexes = {
+        @Index(name = "idx_profile_job_company_job", columnList = "company_id, job_id DESC")
+})
+public class CompanyProfileJob {
+    @Id
+    private Long jobId;
+
+    private Long companyId;
+
+    private String title;
+
+    private String location;
+
+    private String postedAt;
+}
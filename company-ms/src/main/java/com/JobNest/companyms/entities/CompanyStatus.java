@@ -0,0 +1,7 @@
+package com.JobNest.companyms.entities;
+
+public enum CompanyStatus {
+    ACTIVE,
+    // Delete accepted, waiting for Job-Service and Reviews-Service to confirm
+    DELETING
+}
@@ -0,0 +1,40 @@
+package com.JobNest.companyms.entities;
+
+import com.JobNest.companyms.exceptions.ApplicationException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.ArrayList;
+import java.util.List;
+
+@Converter
+public class ProfileJobsConverter implements AttributeConverter<List<CompanyProfileJob>, String> {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final TypeReference<List<CompanyProfileJob>> JOB_LIST = new TypeReference<>() {
+    };
+
+    @Override
+    public String convertToDatabaseColumn(List<CompanyProfileJob> jobs) {
+        try {
+            return objectMapper.writeValueAsString(jobs == null ? List.of() : jobs);
+        } catch (JsonProcessingException ex) {
+            throw new ApplicationException(ex.getMessage());
+        }
+    }
+
+    @Override
+    public List<CompanyProfileJob> convertToEntityAttribute(String json) {
+        if (json == null || json.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try {
+            return objectMapper.readValue(json, JOB_LIST);
+        } catch (JsonProcessingException ex) {
+            throw new ApplicationException(ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.JobNest.companyms.events;
+
+// Published whenever a company row changes (create, update, delete or rating)
+public record CompanyChangedEvent(Long companyId) {
+}
@@ -0,0 +1,5 @@
+package com.JobNest.companyms.events;
+
+// Published inside the delete transaction, the delete command is sent to Kafka only after commit
+public record CompanyDeletionRequestedEvent(Long companyId) {
+}
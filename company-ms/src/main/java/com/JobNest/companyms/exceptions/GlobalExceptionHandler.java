@@ -95,6 +95,20 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         );
     }
 
+    @ExceptionHandler(InvalidIncludeException.class)
+    public ResponseEntity<?> handleInvalidIncludeException(InvalidIncludeException ex, HttpServletRequest request) {
+
+        String clientMessage = "Unknown include requested. Supported values are jobs, reviewsSummary and jobCount.";
+        String logMessage = "InvalidIncludeException occurred";
+        return buildErrorResponse(
+                ex,
+                request,
+                HttpStatus.BAD_REQUEST,
+                logMessage,
+                clientMessage
+        );
+    }
+
     // MethodArgumentNotValidException
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(
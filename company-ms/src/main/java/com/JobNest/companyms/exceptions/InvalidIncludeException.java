@@ -0,0 +1,9 @@
+package com.JobNest.companyms.exceptions;
+
+// Unknown value in the include request parameter of a company read
+public class InvalidIncludeException extends ApplicationException {
+
+    public InvalidIncludeException(String message) {
+        super(message);
+    }
+}
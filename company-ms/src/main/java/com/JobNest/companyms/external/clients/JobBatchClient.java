@@ -0,0 +1,20 @@
+package com.JobNest.companyms.external.clients;
+
+import com.JobNest.companyms.dto.ProfileJobDto;
+import com.JobNest.companyms.helper.ApiResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+import java.util.Set;
+
+// Background batch reads of Job-Service, kept apart from JobClient so they are not bound by its short timeouts
+@FeignClient(name = "JOB-SERVICE", contextId = "job-batch-client")
+public interface JobBatchClient {
+
+    // Up to 100 companies per call
+    @GetMapping("/api/jobs/companies")
+    ResponseEntity<ApiResponse<List<ProfileJobDto>>> getJobsByCompIds(@RequestParam("companyIds") Set<Long> companyIds);
+}
@@ -10,12 +10,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 
 import java.util.List;
 
+// Called within the company read deadline, timeouts are set under feign.client.config.JOB-SERVICE
 @FeignClient(name = "JOB-SERVICE")
 public interface JobClient {
 
     @GetMapping("/api/jobs/company/{compId}")
     ResponseEntity<ApiResponse<List<JobDto>>> getJobsByCompId(@PathVariable Long compId);
 
+    @GetMapping("/api/jobs/company/{compId}/count")
+    ResponseEntity<ApiResponse<Long>> countJobsByCompId(@PathVariable Long compId);
+
     @DeleteMapping("/api/jobs/company/{companyId}")
     ResponseEntity<ApiResponse<String>> deleteJobByCompId(@PathVariable Long companyId);
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.JobNest.companyms.external.clients;
 
+import com.JobNest.companyms.dto.RatingSummary;
+import com.jobnest.reviewsms.dto.RatingHistogramDto;
 import com.jobnest.reviewsms.helper.ApiResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
@@ -8,12 +10,26 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
+import java.util.Set;
+
 @FeignClient(name = "REVIEWS-SERVICE")
 public interface ReviewClient {
 
     @GetMapping("/api/reviews/avgRating")
     Double getAvgCompanyRating(@RequestParam Long companyId);
 
+    // Companies without reviews are absent from the result
+    @GetMapping("/api/reviews/rating-summaries")
+    List<RatingSummary> getRatingSummaries(@RequestParam Long fromCompanyId, @RequestParam Long toCompanyId);
+
+    // One GROUP BY for up to 500 companies, companies without reviews are absent
+    @GetMapping("/api/reviews/rating-summaries")
+    List<RatingSummary> getRatingSummariesByCompIds(@RequestParam("companyIds") Set<Long> companyIds);
+
+    @GetMapping("/api/reviews/rating-histogram")
+    ResponseEntity<ApiResponse<RatingHistogramDto>> getRatingHistogram(@RequestParam Long companyId);
+
     @DeleteMapping("/{companyId}")
     public ResponseEntity<ApiResponse<String>> deleteReviewsByCompId(@PathVariable Long companyId);
 }
\ No newline at end of file
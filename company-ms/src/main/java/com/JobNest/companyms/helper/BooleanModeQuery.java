@@ -0,0 +1,53 @@
+package com.JobNest.companyms.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Rewrites user input into a well-formed MATCH ... AGAINST (... IN BOOLEAN MODE) expression.
+// Only +/- word prefixes, trailing * and balanced "phrases" are kept; parentheses, ~, <, >, @
+// and stray quotes are dropped, as malformed operators make MySQL reject the whole query.
+public final class BooleanModeQuery {
+
+    private static final Pattern PHRASE = Pattern.compile("([+-]?)\"([^\"]*)\"");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}_]+");
+    private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[^\\p{L}\\p{N}_*]+$");
+
+    private BooleanModeQuery() {
+    }
+
+    // Empty when nothing searchable is left
+    public static String sanitize(String input) {
+        if (input == null) {
+            return "";
+        }
+        List<String> terms = new ArrayList<>();
+        StringBuilder rest = new StringBuilder();
+        Matcher phrase = PHRASE.matcher(input);
+        int last = 0;
+        while (phrase.find()) {
+            rest.append(input, last, phrase.start()).append(' ');
+            String words = NON_WORD.matcher(phrase.group(2)).replaceAll(" ").trim();
+            if (!words.isEmpty()) {
+                terms.add(phrase.group(1) + "\"" + words + "\"");
+            }
+            last = phrase.end();
+        }
+        rest.append(input.substring(last));
+
+        for (String token : rest.toString().split("\\s+")) {
+            String operator = token.startsWith("+") || token.startsWith("-") ? token.substring(0, 1) : "";
+            boolean truncated = TRAILING_PUNCTUATION.matcher(token).replaceAll("").endsWith("*");
+            // Inner punctuation splits the word, as the FULLTEXT parser would, "e-commerce" is "e commerce"
+            String[] words = NON_WORD.matcher(token).replaceAll(" ").trim().split(" ");
+            for (int i = 0; i < words.length; i++) {
+                if (words[i].isEmpty()) {
+                    continue;
+                }
+                terms.add((i == 0 ? operator : "") + words[i] + (truncated && i == words.length - 1 ? "*" : ""));
+            }
+        }
+        return String.join(" ", terms);
+    }
+}
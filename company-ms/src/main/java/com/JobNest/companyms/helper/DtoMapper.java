@@ -1,11 +1,19 @@
 package com.JobNest.companyms.helper;
 
 import com.JobNest.companyms.dto.CompanyDto;
+import com.JobNest.companyms.dto.CompanyProfileDto;
 import com.JobNest.companyms.dto.JobDto;
+import com.JobNest.companyms.dto.ReviewsSummary;
 import com.JobNest.companyms.entities.Company;
+import com.JobNest.companyms.entities.CompanyProfile;
+import com.JobNest.companyms.entities.CompanyProfileJob;
+import com.JobNest.companyms.index.CompanySummary;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Component
 public class DtoMapper {
@@ -41,6 +49,55 @@ public class DtoMapper {
         return companyDto;
     }
 
+    public CompanyDto mapToDtoWithJobAndReviewUrl(CompanySummary summary, String jobsUrl, String reviewUrl) {
+
+        CompanyDto companyDto = new CompanyDto();
+
+        companyDto.setId(summary.id());
+        companyDto.setName(summary.name());
+        companyDto.setIndustry(summary.industry());
+        companyDto.setLocation(summary.location());
+        companyDto.setAverageRating(summary.averageRating());
+
+        companyDto.setJobsUrl(jobsUrl);
+        companyDto.setReviewUrl(reviewUrl);
+        return companyDto;
+    }
+
+    public ReviewsSummary mapToReviewsSummary(Company company) {
+        return new ReviewsSummary(company.getAverageRating(), company.getReviewCount());
+    }
+
+    public CompanyProfileDto mapToProfileDto(CompanyProfile profile) {
+
+        CompanyProfileDto profileDto = new CompanyProfileDto();
+
+        profileDto.setId(profile.getCompanyId());
+        profileDto.setName(profile.getName());
+        profileDto.setDescription(profile.getDescription());
+        profileDto.setIndustry(profile.getIndustry());
+        profileDto.setLocation(profile.getLocation());
+        profileDto.setAverageRating(profile.getAverageRating());
+        profileDto.setReviewCount(profile.getReviewCount());
+
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        histogram.put(1, profile.getOneStarCount());
+        histogram.put(2, profile.getTwoStarCount());
+        histogram.put(3, profile.getThreeStarCount());
+        histogram.put(4, profile.getFourStarCount());
+        histogram.put(5, profile.getFiveStarCount());
+        profileDto.setRatingHistogram(histogram);
+
+        profileDto.setOpenJobCount(profile.getOpenJobCount());
+        List<CompanyProfileDto.ProfileJob> latestJobs = new ArrayList<>();
+        for (CompanyProfileJob job : profile.getLatestJobs()) {
+            latestJobs.add(new CompanyProfileDto.ProfileJob(job.getJobId(), job.getTitle(), job.getLocation(), job.getPostedAt()));
+        }
+        profileDto.setLatestJobs(latestJobs);
+        profileDto.setUpdatedAt(profile.getUpdatedAt());
+        return profileDto;
+    }
+
     public CompanyDto mapToCompanyDto(Company company) {
 
         CompanyDto companyDto = new CompanyDto();
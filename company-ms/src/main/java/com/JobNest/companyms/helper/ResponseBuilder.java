@@ -1,6 +1,11 @@
 package com.JobNest.companyms.helper;
 
 import com.JobNest.companyms.dto.CompanyDto;
+import com.JobNest.companyms.dto.CompanyImportReport;
+import com.JobNest.companyms.dto.CompanyPageDto;
+import com.JobNest.companyms.dto.CompanyProfileDto;
+import com.JobNest.companyms.dto.RatingRebuildStatus;
+import com.JobNest.companyms.index.FacetCounts;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
@@ -24,6 +29,71 @@ public class ResponseBuilder {
                 .build();
     }
 
+    public ApiResponse<CompanyPageDto> buildResponseWithPage(
+            CompanyPageDto companyPage, boolean success, String message, HttpStatus status) {
+
+        return ApiResponse.<CompanyPageDto>builder()
+                .data(companyPage)
+                .success(success)
+                .message(message)
+                .status(status)
+                .timeStamp(LocalDateTime.now())
+                .requestId(UUID.randomUUID().toString())
+                .build();
+    }
+
+    public ApiResponse<CompanyImportReport> buildResponseWithImportReport(
+            CompanyImportReport report, boolean success, String message, HttpStatus status) {
+
+        return ApiResponse.<CompanyImportReport>builder()
+                .data(report)
+                .success(success)
+                .message(message)
+                .status(status)
+                .timeStamp(LocalDateTime.now())
+                .requestId(UUID.randomUUID().toString())
+                .build();
+    }
+
+    public ApiResponse<CompanyProfileDto> buildResponseWithProfile(
+            CompanyProfileDto profileDto, boolean success, String message, HttpStatus status) {
+
+        return ApiResponse.<CompanyProfileDto>builder()
+                .data(profileDto)
+                .success(success)
+                .message(message)
+                .status(status)
+                .timeStamp(LocalDateTime.now())
+                .requestId(UUID.randomUUID().toString())
+                .build();
+    }
+
+    public ApiResponse<RatingRebuildStatus> buildResponseWithRebuildStatus(
+            RatingRebuildStatus rebuildStatus, boolean success, String message, HttpStatus status) {
+
+        return ApiResponse.<RatingRebuildStatus>builder()
+                .data(rebuildStatus)
+                .success(success)
+                .message(message)
+                .status(status)
+                .timeStamp(LocalDateTime.now())
+                .requestId(UUID.randomUUID().toString())
+                .build();
+    }
+
+    public ApiResponse<FacetCounts> buildResponseWithFacets(
+            FacetCounts facetCounts, boolean success, String message, HttpStatus status) {
+
+        return ApiResponse.<FacetCounts>builder()
+                .data(facetCounts)
+                .success(success)
+                .message(message)
+                .status(status)
+                .timeStamp(LocalDateTime.now())
+                .requestId(UUID.randomUUID().toString())
+                .build();
+    }
+
     public ApiResponse<String> buildResponseWithoutData(
             boolean success, String message, HttpStatus status) {
 
@@ -0,0 +1,162 @@
+package com.JobNest.companyms.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Columnar in-memory catalog for faceted browsing. Industry and location are dictionary
+// encoded to small ints and every distinct value owns a bitmap of the rows holding it,
+// so a facet count is one AND + popcount over a few machine words per 64 companies.
+// A company costs a row slot (two codes) plus one bit per column.
+@Component
+public class CompanyCatalog implements CompanyIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> rows = new HashMap<>();
+    private final Deque<Integer> freeRows = new ArrayDeque<>();
+    private final Column industries = new Column();
+    private final Column locations = new Column();
+    private int[] industryCodes = new int[64];
+    private int[] locationCodes = new int[64];
+    private int rowCount;
+
+    // Multi-select facet semantics: industry counts apply only the location filter and
+    // location counts only the industry filter, the total applies both
+    public FacetCounts facets(String industry, String location) {
+        lock.readLock().lock();
+        try {
+            Bitmap industryFilter = industries.bitmap(industry);
+            Bitmap locationFilter = locations.bitmap(location);
+            // A value never seen matches no company
+            boolean unknownIndustry = industry != null && industryFilter == null;
+            boolean unknownLocation = location != null && locationFilter == null;
+
+            int total;
+            if (unknownIndustry || unknownLocation) {
+                total = 0;
+            } else if (industryFilter != null && locationFilter != null) {
+                total = industryFilter.andCardinality(locationFilter);
+            } else if (industryFilter != null || locationFilter != null) {
+                total = (industryFilter != null ? industryFilter : locationFilter).cardinality();
+            } else {
+                total = rows.size();
+            }
+            return new FacetCounts(
+                    total,
+                    unknownLocation ? Map.of() : industries.counts(locationFilter),
+                    unknownIndustry ? Map.of() : locations.counts(industryFilter));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(CompanySummary summary) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rows.get(summary.id());
+            if (row == null) {
+                row = allocateRow(summary.id());
+            } else {
+                industries.bitmaps.get(industryCodes[row]).clear(row);
+                locations.bitmaps.get(locationCodes[row]).clear(row);
+            }
+            industryCodes[row] = industries.encode(summary.industry());
+            locationCodes[row] = locations.encode(summary.location());
+            industries.bitmaps.get(industryCodes[row]).set(row);
+            locations.bitmaps.get(locationCodes[row]).set(row);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long companyId) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rows.remove(companyId);
+            if (row == null) {
+                return;
+            }
+            industries.bitmaps.get(industryCodes[row]).clear(row);
+            locations.bitmaps.get(locationCodes[row]).clear(row);
+            freeRows.push(row);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<Long> companyIds() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(rows.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Rows of removed companies are reused, so bitmaps stay as dense as the live catalog
+    private int allocateRow(Long companyId) {
+        int row;
+        if (!freeRows.isEmpty()) {
+            row = freeRows.pop();
+        } else {
+            row = rowCount++;
+            if (row == industryCodes.length) {
+                int capacity = industryCodes.length * 2;
+                industryCodes = Arrays.copyOf(industryCodes, capacity);
+                locationCodes = Arrays.copyOf(locationCodes, capacity);
+            }
+        }
+        rows.put(companyId, row);
+        return row;
+    }
+
+    // Dictionary of one column. Codes are never reused, values left without companies
+    // keep their (empty) bitmap and are omitted from the counts.
+    private static final class Column {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        private final List<Bitmap> bitmaps = new ArrayList<>();
+
+        private int encode(String value) {
+            return codes.computeIfAbsent(key(value), key -> {
+                // First spelling seen is the one displayed
+                values.add(value == null ? "" : value.trim());
+                bitmaps.add(new Bitmap());
+                return values.size() - 1;
+            });
+        }
+
+        private Bitmap bitmap(String value) {
+            if (value == null) {
+                return null;
+            }
+            Integer code = codes.get(key(value));
+            return code == null ? null : bitmaps.get(code);
+        }
+
+        private Map<String, Integer> counts(Bitmap filter) {
+            List<Map.Entry<String, Integer>> counts = new ArrayList<>();
+            for (int code = 0; code < values.size(); code++) {
+                Bitmap bitmap = bitmaps.get(code);
+                int count = filter == null ? bitmap.cardinality() : bitmap.andCardinality(filter);
+                if (count > 0) {
+                    counts.add(Map.entry(values.get(code), count));
+                }
+            }
+            counts.sort(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+
+            Map<String, Integer> ordered = new LinkedHashMap<>();
+            counts.forEach(entry -> ordered.put(entry.getKey(), entry.getValue()));
+            return ordered;
+        }
+
+        private static String key(String value) {
+            return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.JobNest.companyms.index;
+
+import java.util.Set;
+
+// In-memory read model over company summaries, kept current by CompanyIndexRefresher
+public interface CompanyIndex {
+
+    void put(CompanySummary summary);
+
+    void remove(Long companyId);
+
+    Set<Long> companyIds();
+}
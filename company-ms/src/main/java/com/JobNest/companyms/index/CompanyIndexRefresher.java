@@ -0,0 +1,84 @@
+package com.JobNest.companyms.index;
+
+import com.JobNest.companyms.events.CompanyChangedEvent;
+import com.JobNest.companyms.repository.CompanyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Seeds every CompanyIndex at startup and applies company changes to all of them,
+// so one changed row is read once no matter how many indexes exist
+@Component
+public class CompanyIndexRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(CompanyIndexRefresher.class);
+    private final CompanyRepository companyRepo;
+    private final List<CompanyIndex> indexes;
+    // Summary each index currently holds, a rebuild only re-puts companies that differ from it
+    private final Map<Long, CompanySummary> indexed = new ConcurrentHashMap<>();
+
+    public CompanyIndexRefresher(CompanyRepository companyRepo, List<CompanyIndex> indexes) {
+        this.companyRepo = companyRepo;
+        this.indexes = indexes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        rebuild();
+    }
+
+    // Rating updates consumed by another instance are only seen here through the periodic rebuild
+    @Scheduled(
+            initialDelayString = "${company.index.refresh-interval:PT5M}",
+            fixedDelayString = "${company.index.refresh-interval:PT5M}")
+    public void rebuild() {
+        List<CompanySummary> summaries = companyRepo.findAllSummaries();
+        Set<Long> loadedIds = new HashSet<>();
+        List<CompanySummary> changed = new ArrayList<>();
+        for (CompanySummary summary : summaries) {
+            loadedIds.add(summary.id());
+            if (!summary.equals(indexed.get(summary.id()))) {
+                changed.add(summary);
+            }
+        }
+
+        int removed = 0;
+        for (CompanyIndex index : indexes) {
+            changed.forEach(index::put);
+            for (Long companyId : index.companyIds()) {
+                if (!loadedIds.contains(companyId)) {
+                    index.remove(companyId);
+                    removed++;
+                }
+            }
+        }
+        changed.forEach(summary -> indexed.put(summary.id(), summary));
+        indexed.keySet().retainAll(loadedIds);
+        log.info("{} company indexes refreshed from {} companies: {} changed, {} removed",
+                indexes.size(), summaries.size(), changed.size(), removed);
+    }
+
+    // Re-reads the changed row after commit, covers create, update, delete and rating changes
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        Optional<CompanySummary> summary = companyRepo.findSummaryById(event.companyId());
+        for (CompanyIndex index : indexes) {
+            summary.ifPresentOrElse(index::put, () -> index.remove(event.companyId()));
+        }
+        summary.ifPresentOrElse(
+                found -> indexed.put(found.id(), found),
+                () -> indexed.remove(event.companyId()));
+    }
+}
@@ -0,0 +1,78 @@
+package com.JobNest.companyms.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// In-memory ranking of companies by average rating, overall and per industry.
+// Skip lists keep (rating, id) pairs ordered, so top-N walks N entries from the head
+// and a rating change is one O(log M) removal plus one insert.
+@Component
+public class CompanyLeaderboard implements CompanyIndex {
+
+    private final ConcurrentSkipListSet<RankedCompany> ranking = new ConcurrentSkipListSet<>();
+    private final ConcurrentHashMap<String, ConcurrentSkipListSet<RankedCompany>> industryRankings = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, CompanySummary> companies = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized void put(CompanySummary summary) {
+        remove(summary.id());
+        RankedCompany ranked = new RankedCompany(summary.averageRating(), summary.id());
+        companies.put(summary.id(), summary);
+        ranking.add(ranked);
+        industryRankings.computeIfAbsent(industryKey(summary.industry()), key -> new ConcurrentSkipListSet<>()).add(ranked);
+    }
+
+    @Override
+    public synchronized void remove(Long companyId) {
+        CompanySummary summary = companies.remove(companyId);
+        if (summary == null) {
+            return;
+        }
+        RankedCompany ranked = new RankedCompany(summary.averageRating(), summary.id());
+        ranking.remove(ranked);
+        String industry = industryKey(summary.industry());
+        Set<RankedCompany> industryRanking = industryRankings.get(industry);
+        if (industryRanking != null) {
+            industryRanking.remove(ranked);
+            if (industryRanking.isEmpty()) {
+                industryRankings.remove(industry);
+            }
+        }
+    }
+
+    @Override
+    public Set<Long> companyIds() {
+        return new HashSet<>(companies.keySet());
+    }
+
+    public List<CompanySummary> top(int limit) {
+        return collect(ranking, limit);
+    }
+
+    public List<CompanySummary> top(String industry, int limit) {
+        Set<RankedCompany> industryRanking = industryRankings.get(industryKey(industry));
+        return industryRanking == null ? new ArrayList<>() : collect(industryRanking, limit);
+    }
+
+    private List<CompanySummary> collect(Set<RankedCompany> rankedCompanies, int limit) {
+        List<CompanySummary> result = new ArrayList<>(limit);
+        for (RankedCompany ranked : rankedCompanies) {
+            if (result.size() == limit) {
+                break;
+            }
+            // Entry may be removed concurrently between the two lookups
+            CompanySummary summary = companies.get(ranked.id());
+            if (summary != null) {
+                result.add(summary);
+            }
+        }
+        return result;
+    }
+
+    private static String industryKey(String industry) {
+        return industry == null ? "" : industry.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,276 @@
+package com.JobNest.companyms.index;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Prefix index over normalized company names for typeahead, stored as a radix trie.
+// Every node keeps the top-k companies of its subtree by rating, so a lookup is one walk
+// of prefix length and does not depend on the number of companies. Names are indexed from every word
+// start, "acme" finds both "Acme Corp" and "Global Acme".
+@Component
+public class CompanyNameTrie implements CompanyIndex {
+
+    private static final Comparator<CompanySummary> BY_RATING =
+            Comparator.comparing(CompanySummary::averageRating, Comparator.reverseOrder())
+                    .thenComparing(CompanySummary::id);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node("");
+    private final Map<Long, CompanySummary> companies = new HashMap<>();
+    private final int topK;
+
+    public CompanyNameTrie(@Value("${company.typeahead.top-k:10}") int topK) {
+        this.topK = topK;
+    }
+
+    public List<CompanySummary> complete(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return new ArrayList<>();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int depth = 0;
+            while (depth < key.length()) {
+                node = node.child(key.charAt(depth));
+                if (node == null) {
+                    return new ArrayList<>();
+                }
+                // The prefix may end inside the edge label, the node below still covers it
+                int matched = commonPrefix(node.label, key, depth);
+                if (matched < node.label.length() && depth + matched < key.length()) {
+                    return new ArrayList<>();
+                }
+                depth += matched;
+            }
+            return new ArrayList<>(node.top.subList(0, Math.min(limit, node.top.size())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(CompanySummary summary) {
+        lock.writeLock().lock();
+        try {
+            CompanySummary old = companies.put(summary.id(), summary);
+            if (old != null) {
+                keys(old.name()).forEach(key -> unindex(key, old.id()));
+            }
+            keys(summary.name()).forEach(key -> index(key, summary));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long companyId) {
+        lock.writeLock().lock();
+        try {
+            CompanySummary old = companies.remove(companyId);
+            if (old != null) {
+                keys(old.name()).forEach(key -> unindex(key, old.id()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<Long> companyIds() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(companies.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(String key, CompanySummary summary) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int depth = 0;
+        while (depth < key.length()) {
+            Node child = node.child(key.charAt(depth));
+            if (child == null) {
+                child = new Node(key.substring(depth));
+                node.addChild(child);
+                depth = key.length();
+            } else {
+                int matched = commonPrefix(child.label, key, depth);
+                if (matched < child.label.length()) {
+                    child = split(node, child, matched);
+                }
+                depth += matched;
+            }
+            node = child;
+            path.add(node);
+        }
+        node.companies.add(summary);
+        recomputeTop(path);
+    }
+
+    private void unindex(String key, Long companyId) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int depth = 0;
+        while (depth < key.length()) {
+            node = node.child(key.charAt(depth));
+            if (node == null || !key.startsWith(node.label, depth)) {
+                return;
+            }
+            depth += node.label.length();
+            path.add(node);
+        }
+        node.companies.removeIf(summary -> summary.id().equals(companyId));
+
+        // Keep the trie compact: drop empty leaves and merge nodes left with a single child
+        int last = path.size() - 1;
+        if (last > 0 && node.companies.isEmpty() && node.children.length == 0) {
+            path.get(last - 1).removeChild(node);
+            path.remove(last);
+            last--;
+        }
+        Node tail = path.get(last);
+        if (last > 0 && tail.companies.isEmpty() && tail.children.length == 1) {
+            tail.absorbOnlyChild();
+        }
+        recomputeTop(path);
+    }
+
+    // Inserts a node for the first `at` characters of the child's label between parent and child
+    private static Node split(Node parent, Node child, int at) {
+        Node middle = new Node(child.label.substring(0, at));
+        parent.removeChild(child);
+        child.label = child.label.substring(at);
+        middle.addChild(child);
+        middle.top = child.top;
+        parent.addChild(middle);
+        return middle;
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    // A node's top-k is the best of its own companies and its children's top-k lists
+    private void recomputeTop(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            List<CompanySummary> candidates = new ArrayList<>(node.companies);
+            for (Node child : node.children) {
+                candidates.addAll(child.top);
+            }
+            candidates.sort(BY_RATING);
+
+            List<CompanySummary> top = new ArrayList<>(topK);
+            Set<Long> seen = new HashSet<>();
+            for (CompanySummary candidate : candidates) {
+                if (top.size() == topK) {
+                    break;
+                }
+                // Same company can reach a node through two of its word starts
+                if (seen.add(candidate.id())) {
+                    top.add(candidate);
+                }
+            }
+            node.top = top;
+        }
+    }
+
+    private static Set<String> keys(String name) {
+        String normalized = normalize(name);
+        Set<String> keys = new LinkedHashSet<>();
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+        keys.add(normalized);
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            keys.add(normalized.substring(i + 1));
+        }
+        return keys;
+    }
+
+    // Lower case, accents stripped, punctuation and repeated whitespace collapsed to one space
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return stripped.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+
+    // Radix trie node: the edge into the node carries a whole label, and children are kept in
+    // arrays sorted by the first label character instead of a map per character
+    private static final class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private String label;
+        private char[] childKeys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private final List<CompanySummary> companies = new ArrayList<>(1);
+        private List<CompanySummary> top = List.of();
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node child(char first) {
+            int i = Arrays.binarySearch(childKeys, first);
+            return i >= 0 ? children[i] : null;
+        }
+
+        private void addChild(Node child) {
+            int i = -Arrays.binarySearch(childKeys, child.label.charAt(0)) - 1;
+            char[] keys = new char[childKeys.length + 1];
+            Node[] nodes = new Node[children.length + 1];
+            System.arraycopy(childKeys, 0, keys, 0, i);
+            System.arraycopy(children, 0, nodes, 0, i);
+            keys[i] = child.label.charAt(0);
+            nodes[i] = child;
+            System.arraycopy(childKeys, i, keys, i + 1, childKeys.length - i);
+            System.arraycopy(children, i, nodes, i + 1, children.length - i);
+            childKeys = keys;
+            children = nodes;
+        }
+
+        private void removeChild(Node child) {
+            int i = Arrays.binarySearch(childKeys, child.label.charAt(0));
+            if (i < 0) {
+                return;
+            }
+            char[] keys = new char[childKeys.length - 1];
+            Node[] nodes = new Node[children.length - 1];
+            System.arraycopy(childKeys, 0, keys, 0, i);
+            System.arraycopy(children, 0, nodes, 0, i);
+            System.arraycopy(childKeys, i + 1, keys, i, keys.length - i);
+            System.arraycopy(children, i + 1, nodes, i, nodes.length - i);
+            childKeys = keys.length == 0 ? NO_KEYS : keys;
+            children = nodes.length == 0 ? NO_CHILDREN : nodes;
+        }
+
+        // Only called on a node without companies, its label grows by the child's
+        private void absorbOnlyChild() {
+            Node only = children[0];
+            label = label + only.label;
+            childKeys = only.childKeys;
+            children = only.children;
+            companies.addAll(only.companies);
+            top = only.top;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.JobNest.companyms.index;
+
+// Projection used by the in-memory indexes without loading whole Company entities
+public record CompanySummary(Long id, String name, String industry, String location, Double averageRating) {
+}
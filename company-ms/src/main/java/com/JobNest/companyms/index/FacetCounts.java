@@ -0,0 +1,7 @@
+package com.JobNest.companyms.index;
+
+import java.util.Map;
+
+// Companies matching a filter, with counts per industry and per location ordered by count
+public record FacetCounts(int total, Map<String, Integer> industries, Map<String, Integer> locations) {
+}
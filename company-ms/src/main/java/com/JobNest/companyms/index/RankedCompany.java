@@ -0,0 +1,11 @@
+package com.JobNest.companyms.index;
+
+// Leaderboard key: highest rating first, ties broken by ascending id
+public record RankedCompany(double rating, long id) implements Comparable<RankedCompany> {
+
+    @Override
+    public int compareTo(RankedCompany other) {
+        int byRating = Double.compare(other.rating, rating);
+        return byRating != 0 ? byRating : Long.compare(id, other.id);
+    }
+}
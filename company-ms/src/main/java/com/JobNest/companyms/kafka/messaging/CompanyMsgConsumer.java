@@ -1,48 +1,112 @@
 package com.JobNest.companyms.kafka.messaging;
 
-import com.JobNest.companyms.external.clients.ReviewClient;
-import com.JobNest.companyms.entities.Company;
-import com.JobNest.companyms.repository.CompanyRepository;
+import com.JobNest.companyms.cache.CompanyAggregateCache;
+import com.JobNest.companyms.cache.SecondLevelCacheEvictor;
+import com.JobNest.companyms.dto.CompanyDeletionAck;
+import com.JobNest.companyms.dto.JobEvent;
+import com.JobNest.companyms.dto.ReviewEvent;
+import com.JobNest.companyms.profile.CompanyProfileProjector;
+import com.JobNest.companyms.saga.CompanyDeletionSaga;
+import com.JobNest.companyms.service.CompanyService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 public class CompanyMsgConsumer {
     private static final Logger log = LoggerFactory.getLogger(CompanyMsgConsumer.class);
-    private CompanyRepository companyRepo;
-    private ReviewClient reviewClient;
+    private CompanyService companyService;
+    private CompanyAggregateCache companyCache;
+    private CompanyDeletionSaga deletionSaga;
+    private CompanyProfileProjector profileProjector;
+    private SecondLevelCacheEvictor cacheEvictor;
 
     // constructor
-    public CompanyMsgConsumer(ReviewClient reviewClient, CompanyRepository companyRepo) {
-        this.reviewClient = reviewClient;
-        this.companyRepo = companyRepo;
+    public CompanyMsgConsumer(
+            CompanyService companyService,
+            CompanyAggregateCache companyCache,
+            CompanyDeletionSaga deletionSaga,
+            CompanyProfileProjector profileProjector,
+            SecondLevelCacheEvictor cacheEvictor) {
+        this.companyService = companyService;
+        this.companyCache = companyCache;
+        this.deletionSaga = deletionSaga;
+        this.profileProjector = profileProjector;
+        this.cacheEvictor = cacheEvictor;
     }
 
-    @KafkaListener(topics = "review-added-topic", groupId = "company-service")
-    public void consumeMessage(Long companyId) {
+    // Only one of the two review-added listeners is started, see company.rating.consumer.mode
+    @KafkaListener(
+            id = "review-added-record",
+            topics = "review-added-topic",
+            groupId = "company-service",
+            autoStartup = "#{'${company.rating.consumer.mode:batch}' == 'record'}")
+    public void consumeMessage(ReviewEvent reviewEvent) {
         log.info("*** Message received ***");
 
-        updateAverageRating(companyId);
+        companyService.applyReviewEvents(List.of(reviewEvent));
 
         log.info("*** Message consumed ***");
     }
 
-    private void updateAverageRating(Long companyId) {
-        Company company = companyRepo.findById(companyId).orElse(null);
-        if (company != null) {
-            double avgCompanyRating = calculateAverageRating(companyId);
-            company.setAverageRating(avgCompanyRating);
-            companyRepo.save(company);
-            log.info("Average rating updated to {} for company Id {}: ", avgCompanyRating, companyId);
-        } else {
-            log.error("Company not found with ID {}", companyId);
-        }
+    // A burst of reviews for one company arrives as many records in one poll,
+    // the deltas are summed per company and applied with one update per distinct company
+    @KafkaListener(
+            id = "review-added-batch",
+            topics = "review-added-topic",
+            groupId = "company-service",
+            containerFactory = "batchFactory",
+            concurrency = "${company.rating.consumer.concurrency:1}",
+            autoStartup = "#{'${company.rating.consumer.mode:batch}' == 'batch'}")
+    public void consumeMessages(List<ReviewEvent> reviewEvents) {
+        log.info("*** Batch received: {} records ***", reviewEvents.size());
+
+        int updated = companyService.applyReviewEvents(reviewEvents);
+
+        log.info("*** Batch consumed: {} ratings updated ***", updated);
+    }
+
+    @KafkaListener(topics = "company-deletion-ack-topic", groupId = "company-service")
+    public void consumeDeletionAck(CompanyDeletionAck deletionAck) {
+        log.info("*** Deletion ack received from {} ***", deletionAck.getService());
+        deletionSaga.acknowledge(deletionAck.getCompanyId(), deletionAck.getService());
+    }
+
+    // Every instance holds its own caches, so each one consumes with a group of its own (host and port,
+    // stable across restarts) and receives all changes. Starts from the latest offset, older changes
+    // are covered by the TTL. Groups of retired instances expire with offsets.retention.minutes.
+    @KafkaListener(
+            topics = "job-changed-topic",
+            groupId = "${company.cache.consumer-group}-jobs",
+            properties = "auto.offset.reset=latest")
+    public void consumeJobChange(JobEvent jobEvent) {
+        log.info("Job change received for company ID: {}", jobEvent.getCompanyId());
+        // Jobs are only part of the cached aggregate, the company row itself is unchanged
+        companyCache.evict(jobEvent.getCompanyId());
+    }
+
+    // Company and rating changes committed by any instance, including this one
+    @KafkaListener(
+            topics = "company-changed-topic",
+            groupId = "${company.cache.consumer-group}-companies",
+            properties = "auto.offset.reset=latest")
+    public void consumeCompanyChange(Long companyId) {
+        log.debug("Company change received for company ID: {}", companyId);
+        cacheEvictor.evictCompany(companyId);
+        companyCache.evict(companyId);
     }
 
-    private double calculateAverageRating(Long companyId) {
-        Double avgCompanyRating = reviewClient.getAvgCompanyRating(companyId);
-        return avgCompanyRating;
+    // The profile table is shared by all instances, one group applies each job change once
+    @KafkaListener(
+            id = "job-changed-profile",
+            topics = "job-changed-topic",
+            groupId = "company-service-profile",
+            containerFactory = "batchFactory")
+    public void consumeJobChangesForProfile(List<JobEvent> jobEvents) {
+        log.info("*** Batch received: {} job changes for company profiles ***", jobEvents.size());
+        profileProjector.applyJobEvents(jobEvents);
     }
-}
\ No newline at end of file
+}
@@ -1,26 +1,66 @@
 package com.JobNest.companyms.kafka.messaging;
 
+import com.JobNest.companyms.events.CompanyChangedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
 
 @Service
 public class CompanyMsgProducer {
     private static final Logger log = LoggerFactory.getLogger(CompanyMsgProducer.class);
     private final String TOPIC = "company-deleted-topic";
+    private final String CHANGED_TOPIC = "company-changed-topic";
 
     @Autowired
     private KafkaTemplate<String, Long> kafkaTemplate;
 
-    // Publish message to Kafka topic, to be consumed in Reviews-Service
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Value("${company.kafka.producer.resend-attempts:3}")
+    private int resendAttempts;
+
+    @Value("${company.kafka.producer.resend-backoff:PT5S}")
+    private Duration resendBackoff;
+
+    // Publish message to Kafka topic, to be consumed in Reviews-Service and Job-Service
     public void publishMessage(Long companyId) {
 
         log.info("Sending Topic='{}' with Payload='{}' ", TOPIC, companyId);
 
-        kafkaTemplate.send(TOPIC, companyId);
+        // Unacknowledged deletions are also republished by the deletion saga
+        send(TOPIC, companyId, 1);
 
         log.info("Topic sent to consumer");
     }
-}
\ No newline at end of file
+
+    // After commit, every instance evicts its local caches of the company, see CompanyMsgConsumer
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        log.debug("Sending Topic='{}' with Payload='{}' ", CHANGED_TOPIC, event.companyId());
+        send(CHANGED_TOPIC, event.companyId(), 1);
+    }
+
+    // Both topics only carry the company id, a repeated delete or eviction changes nothing, so a failed
+    // send is re-sent. Failures are logged and counted by KafkaSendFailureListener. The re-send runs on
+    // the scheduler, the failure callback runs on the producer I/O thread and must not block.
+    private void send(String topic, Long companyId, int attempt) {
+        kafkaTemplate.send(topic, String.valueOf(companyId), companyId).addCallback(
+                result -> { },
+                ex -> {
+                    if (attempt < resendAttempts) {
+                        taskScheduler.schedule(() -> send(topic, companyId, attempt + 1), Instant.now().plus(resendBackoff));
+                    } else {
+                        log.error("Topic='{}' with key='{}' not sent after {} attempts", topic, companyId, attempt);
+                    }
+                });
+    }
+}
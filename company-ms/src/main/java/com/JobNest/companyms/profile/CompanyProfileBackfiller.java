@@ -0,0 +1,77 @@
+package com.JobNest.companyms.profile;
+
+import com.JobNest.companyms.dto.ProfileJobDto;
+import com.JobNest.companyms.external.clients.JobBatchClient;
+import com.JobNest.companyms.external.clients.ReviewClient;
+import com.JobNest.companyms.repository.CompanyProfileRepository;
+import com.jobnest.reviewsms.dto.RatingHistogramDto;
+import feign.FeignException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+// Profiles created from company rows (startup sync, bulk import, rebuild) start without jobs and histogram.
+// Seeds them from Job-Service and Reviews-Service one page of companies at a time, profiles that could
+// not be seeded keep a null backfilledAt and are picked up again on the next run.
+// A review event consumed while its company is seeded may be counted twice, the window is one page.
+@Component
+public class CompanyProfileBackfiller {
+
+    private static final Logger log = LoggerFactory.getLogger(CompanyProfileBackfiller.class);
+    private final CompanyProfileRepository profileRepo;
+    private final CompanyProfileProjector profileProjector;
+    private final JobBatchClient jobBatchClient;
+    private final ReviewClient reviewClient;
+    private final int pageSize;
+
+    // Constructor Injection
+    public CompanyProfileBackfiller(
+            CompanyProfileRepository profileRepo,
+            CompanyProfileProjector profileProjector,
+            JobBatchClient jobBatchClient,
+            ReviewClient reviewClient,
+            @Value("${company.profile.backfill.page-size:100}") int pageSize) {
+        this.profileRepo = profileRepo;
+        this.profileProjector = profileProjector;
+        this.jobBatchClient = jobBatchClient;
+        this.reviewClient = reviewClient;
+        this.pageSize = pageSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${company.profile.backfill.initial-delay:PT1M}",
+            fixedDelayString = "${company.profile.backfill.interval:PT10M}")
+    public void backfillProfiles() {
+        long afterId = 0L;
+        List<Long> companyIds;
+        while (!(companyIds = profileRepo.findIdsToBackfill(afterId, PageRequest.of(0, pageSize))).isEmpty()) {
+            afterId = companyIds.get(companyIds.size() - 1);
+
+            Map<Long, List<ProfileJobDto>> jobsByCompany;
+            try {
+                List<ProfileJobDto> jobs = jobBatchClient.getJobsByCompIds(new HashSet<>(companyIds)).getBody().getData();
+                jobsByCompany = jobs.stream().collect(Collectors.groupingBy(ProfileJobDto::getCompanyId));
+            } catch (FeignException ex) {
+                log.warn("Job-Service unavailable, profile backfill stopped: {}", ex.getMessage());
+                return;
+            }
+
+            Map<Long, RatingHistogramDto> histograms = new LinkedHashMap<>();
+            for (Long companyId : companyIds) {
+                try {
+                    histograms.put(companyId, reviewClient.getRatingHistogram(companyId).getBody().getData());
+                } catch (FeignException ex) {
+                    log.warn("Rating histogram for company ID: {} unavailable, profile left for the next run: {}",
+                            companyId, ex.getMessage());
+                }
+            }
+            profileProjector.seedProfiles(jobsByCompany, histograms);
+        }
+    }
+}
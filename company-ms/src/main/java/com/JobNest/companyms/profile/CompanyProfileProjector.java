@@ -0,0 +1,173 @@
+package com.JobNest.companyms.profile;
+
+import com.JobNest.companyms.dto.JobEvent;
+import com.JobNest.companyms.dto.ProfileJobDto;
+import com.JobNest.companyms.dto.ReviewEvent;
+import com.JobNest.companyms.entities.Company;
+import com.JobNest.companyms.entities.CompanyProfile;
+import com.JobNest.companyms.entities.CompanyProfileJob;
+import com.JobNest.companyms.entities.CompanyStatus;
+import com.JobNest.companyms.events.CompanyChangedEvent;
+import com.JobNest.companyms.repository.CompanyProfileJobRepository;
+import com.JobNest.companyms.repository.CompanyProfileRepository;
+import com.JobNest.companyms.repository.CompanyRepository;
+import com.jobnest.reviewsms.dto.RatingHistogramDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// Maintains the company_profile read model. Company fields and rating are copied from the
+// company row after each change, jobs and the rating histogram are applied from Kafka events.
+@Component
+public class CompanyProfileProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(CompanyProfileProjector.class);
+    private final CompanyRepository companyRepo;
+    private final CompanyProfileRepository profileRepo;
+    private final CompanyProfileJobRepository profileJobRepo;
+    private final int latestJobsSize;
+
+    // Constructor Injection
+    public CompanyProfileProjector(
+            CompanyRepository companyRepo,
+            CompanyProfileRepository profileRepo,
+            CompanyProfileJobRepository profileJobRepo,
+            @Value("${company.profile.latest-jobs:5}") int latestJobsSize) {
+        this.companyRepo = companyRepo;
+        this.profileRepo = profileRepo;
+        this.profileJobRepo = profileJobRepo;
+        this.latestJobsSize = latestJobsSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void syncCompanyFields() {
+        int synced = profileRepo.syncCompanyFields();
+        log.info("Company fields synced into {} profile rows", synced);
+    }
+
+    // Runs after the company transaction committed, in a transaction of its own
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        Long companyId = event.companyId();
+        Optional<Company> company = companyRepo.findById(companyId)
+                .filter(c -> c.getStatus() == CompanyStatus.ACTIVE);
+        if (company.isEmpty()) {
+            // Deleted or being deleted, the profile disappears with the company
+            if (profileRepo.existsById(companyId)) {
+                profileRepo.deleteById(companyId);
+            }
+            profileJobRepo.deleteByCompanyId(companyId);
+            return;
+        }
+
+        Optional<CompanyProfile> existing = profileRepo.findById(companyId);
+        CompanyProfile profile = existing.orElseGet(() -> new CompanyProfile(companyId));
+        profile.setName(company.get().getName());
+        profile.setDescription(company.get().getDescription());
+        profile.setIndustry(company.get().getIndustry());
+        profile.setLocation(company.get().getLocation());
+        profile.setAverageRating(company.get().getAverageRating());
+        profile.setReviewCount(company.get().getReviewCount());
+        if (existing.isEmpty()) {
+            // Job events may have arrived before the profile existed
+            refreshJobs(profile);
+        }
+        profile.setUpdatedAt(LocalDateTime.now());
+        profileRepo.save(profile);
+    }
+
+    // All job events of one poll in one transaction, the job summary of each touched profile is recomputed once
+    @Transactional
+    public void applyJobEvents(List<JobEvent> jobEvents) {
+        Set<Long> touched = new LinkedHashSet<>();
+        for (JobEvent event : jobEvents) {
+            if (event.getCompanyId() == null) {
+                continue;
+            }
+            if (!event.isDeleted()) {
+                profileJobRepo.save(new CompanyProfileJob(
+                        event.getJobId(), event.getCompanyId(), event.getTitle(), event.getLocation(), event.getPostedAt()));
+            } else if (event.getJobId() == null) {
+                profileJobRepo.deleteByCompanyId(event.getCompanyId());
+            } else {
+                profileJobRepo.deleteJob(event.getCompanyId(), event.getJobId());
+            }
+            touched.add(event.getCompanyId());
+        }
+
+        for (Long companyId : touched) {
+            profileRepo.findById(companyId).ifPresent(profile -> {
+                refreshJobs(profile);
+                profile.setUpdatedAt(LocalDateTime.now());
+                profileRepo.save(profile);
+            });
+        }
+        log.info("{} job events applied to {} company profiles", jobEvents.size(), touched.size());
+    }
+
+    // Each unmerged review event is one review added (countDelta 1) or removed (countDelta -1),
+    // its star bucket is the rounded rating. Merged events carry no bucket and are skipped.
+    @Transactional
+    public void applyReviewEvents(List<ReviewEvent> reviewEvents) {
+        Map<Long, long[]> histograms = new LinkedHashMap<>();
+        for (ReviewEvent event : reviewEvents) {
+            if (Math.abs(event.getCountDelta()) != 1) {
+                continue;
+            }
+            double rating = event.getRatingDelta() * event.getCountDelta();
+            int bucket = (int) Math.max(1, Math.min(5, Math.round(rating)));
+            histograms.computeIfAbsent(event.getCompanyId(), id -> new long[5])[bucket - 1] += event.getCountDelta();
+        }
+
+        histograms.forEach((companyId, counts) -> {
+            int updated = profileRepo.incrementHistogram(companyId, counts[0], counts[1], counts[2], counts[3], counts[4]);
+            if (updated == 0) {
+                log.warn("No profile for company ID: {}, rating histogram not updated", companyId);
+            }
+        });
+    }
+
+    // Replaces the jobs and rating histogram of each profile with a snapshot read from Job-Service and
+    // Reviews-Service. Events consumed afterwards only apply increments on top of it.
+    @Transactional
+    public void seedProfiles(Map<Long, List<ProfileJobDto>> jobsByCompany, Map<Long, RatingHistogramDto> histograms) {
+        histograms.forEach((companyId, histogram) -> profileRepo.findById(companyId).ifPresent(profile -> {
+            profileJobRepo.deleteByCompanyId(companyId);
+            List<CompanyProfileJob> jobs = new ArrayList<>();
+            for (ProfileJobDto job : jobsByCompany.getOrDefault(companyId, List.of())) {
+                jobs.add(new CompanyProfileJob(job.getId(), companyId, job.getTitle(), job.getLocation(), job.getPostedAt()));
+            }
+            profileJobRepo.saveAll(jobs);
+            refreshJobs(profile);
+
+            Map<Integer, Long> counts = histogram.getCounts();
+            profile.setOneStarCount(counts.getOrDefault(1, 0L));
+            profile.setTwoStarCount(counts.getOrDefault(2, 0L));
+            profile.setThreeStarCount(counts.getOrDefault(3, 0L));
+            profile.setFourStarCount(counts.getOrDefault(4, 0L));
+            profile.setFiveStarCount(counts.getOrDefault(5, 0L));
+            profile.setBackfilledAt(LocalDateTime.now());
+            profile.setUpdatedAt(LocalDateTime.now());
+            profileRepo.save(profile);
+        }));
+        log.info("{} company profiles backfilled", histograms.size());
+    }
+
+    private void refreshJobs(CompanyProfile profile) {
+        Long companyId = profile.getCompanyId();
+        profile.setOpenJobCount(profileJobRepo.countByCompanyId(companyId));
+        profile.setLatestJobs(new ArrayList<>(
+                profileJobRepo.findByCompanyIdOrderByJobIdDesc(companyId, PageRequest.of(0, latestJobsSize))));
+    }
+}
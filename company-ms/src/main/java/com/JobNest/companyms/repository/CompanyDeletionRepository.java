@@ -0,0 +1,24 @@
+package com.JobNest.companyms.repository;
+
+import com.JobNest.companyms.entities.CompanyDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CompanyDeletionRepository extends JpaRepository<CompanyDeletion, Long> {
+
+    // Row lock, acknowledgements from both services may be processed concurrently
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM CompanyDeletion d WHERE d.companyId = :companyId")
+    Optional<CompanyDeletion> findForUpdate(@Param("companyId") Long companyId);
+
+    List<CompanyDeletion> findByLastPublishedAtBefore(LocalDateTime publishedBefore);
+}
@@ -0,0 +1,42 @@
+package com.JobNest.companyms.repository;
+
+import com.JobNest.companyms.entities.Company;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class CompanyImportRepository {
+
+    // Upsert on the (name, location) unique key. The rating given in the file only seeds
+    // companies without reviews, otherwise the review based average is kept.
+    private static final String UPSERT_COMPANY =
+            "INSERT INTO company_tb " +
+                    "(name, description, industry, location, average_rating, rating_sum, review_count, status) " +
+                    "VALUES (?, ?, ?, ?, ?, 0, 0, 'ACTIVE') " +
+                    "ON DUPLICATE KEY UPDATE " +
+                    "description = VALUES(description), " +
+                    "industry = VALUES(industry), " +
+                    "average_rating = IF(review_count = 0, VALUES(average_rating), average_rating)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Constructor Injection
+    public CompanyImportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void upsertCompanies(List<Company> companies) {
+        if (companies.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_COMPANY, companies, companies.size(), (ps, company) -> {
+            ps.setString(1, company.getName());
+            ps.setString(2, company.getDescription());
+            ps.setString(3, company.getIndustry());
+            ps.setString(4, company.getLocation());
+            ps.setDouble(5, company.getAverageRating());
+        });
+    }
+}
@@ -0,0 +1,28 @@
+package com.JobNest.companyms.repository;
+
+import com.JobNest.companyms.entities.CompanyProfileJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CompanyProfileJobRepository extends JpaRepository<CompanyProfileJob, Long> {
+
+    long countByCompanyId(Long companyId);
+
+    List<CompanyProfileJob> findByCompanyIdOrderByJobIdDesc(Long companyId, Pageable pageable);
+
+    // Scoped to the company, a job moved between companies may be re-added before its removal arrives
+    @Modifying
+    @Query("DELETE FROM CompanyProfileJob j WHERE j.jobId = :jobId AND j.companyId = :companyId")
+    int deleteJob(@Param("companyId") Long companyId, @Param("jobId") Long jobId);
+
+    @Modifying
+    @Query("DELETE FROM CompanyProfileJob j WHERE j.companyId = :companyId")
+    int deleteByCompanyId(@Param("companyId") Long companyId);
+}
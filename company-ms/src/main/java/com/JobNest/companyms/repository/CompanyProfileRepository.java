@@ -0,0 +1,58 @@
+package com.JobNest.companyms.repository;
+
+import com.JobNest.companyms.entities.CompanyProfile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CompanyProfileRepository extends JpaRepository<CompanyProfile, Long> {
+
+    // Copies company fields and rating of every active company into its profile in one statement,
+    // used where company rows change without events (startup, bulk import)
+    @Modifying
+    @Query(value = "INSERT INTO company_profile_tb " +
+            "(company_id, name, description, industry, location, average_rating, review_count, " +
+            "one_star_count, two_star_count, three_star_count, four_star_count, five_star_count, " +
+            "open_job_count, latest_jobs, updated_at) " +
+            "SELECT c.id, c.name, c.description, c.industry, c.location, c.average_rating, c.review_count, " +
+            "0, 0, 0, 0, 0, 0, '[]', NOW() " +
+            "FROM company_tb c WHERE c.status = 'ACTIVE' " +
+            "ON DUPLICATE KEY UPDATE " +
+            "name = VALUES(name), " +
+            "description = VALUES(description), " +
+            "industry = VALUES(industry), " +
+            "location = VALUES(location), " +
+            "average_rating = VALUES(average_rating), " +
+            "review_count = VALUES(review_count), " +
+            "updated_at = VALUES(updated_at)",
+            nativeQuery = true)
+    int syncCompanyFields();
+
+    // Incremented in place, concurrent review batches never overwrite each other's counts
+    @Modifying
+    @Query("UPDATE CompanyProfile p SET " +
+            "p.oneStarCount = p.oneStarCount + :one, " +
+            "p.twoStarCount = p.twoStarCount + :two, " +
+            "p.threeStarCount = p.threeStarCount + :three, " +
+            "p.fourStarCount = p.fourStarCount + :four, " +
+            "p.fiveStarCount = p.fiveStarCount + :five " +
+            "WHERE p.companyId = :companyId")
+    int incrementHistogram(
+            @Param("companyId") Long companyId,
+            @Param("one") long one,
+            @Param("two") long two,
+            @Param("three") long three,
+            @Param("four") long four,
+            @Param("five") long five);
+
+    // Keyset paging, profiles whose backfill failed stay behind afterId and are retried on the next run
+    @Query("SELECT p.companyId FROM CompanyProfile p " +
+            "WHERE p.backfilledAt IS NULL AND p.companyId > :afterId ORDER BY p.companyId")
+    List<Long> findIdsToBackfill(@Param("afterId") Long afterId, Pageable pageable);
+}
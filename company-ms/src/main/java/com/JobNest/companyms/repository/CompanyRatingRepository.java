@@ -0,0 +1,86 @@
+package com.JobNest.companyms.repository;
+
+import com.JobNest.companyms.dto.RatingSummary;
+import com.JobNest.companyms.dto.ReviewEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class CompanyRatingRepository {
+
+    // average_rating is assigned first: MySQL evaluates SET left to right with already updated values,
+    // so the average must be computed from the old sum and count
+    private static final String INCREMENT_RATING =
+            "UPDATE company_tb SET " +
+                    "average_rating = (rating_sum + ?) / (review_count + ?), " +
+                    "rating_sum = rating_sum + ?, " +
+                    "review_count = review_count + ? " +
+                    "WHERE id = ? AND review_count + ? > 0";
+
+    // Overwrites the totals with Reviews-Service's, only when no review arrived since the count was read
+    private static final String RECONCILE_RATING =
+            "UPDATE company_tb SET " +
+                    "average_rating = ?, " +
+                    "rating_sum = ?, " +
+                    "review_count = ? " +
+                    "WHERE id = ? AND COALESCE(review_count, 0) = ?";
+
+    // Companies whose reviews are all gone keep their last average but lose the totals
+    private static final String RESET_RANGE =
+            "UPDATE company_tb SET rating_sum = 0, review_count = 0 " +
+                    "WHERE id BETWEEN ? AND ? AND review_count > 0";
+
+    private static final String OVERWRITE_RATING =
+            "UPDATE company_tb SET average_rating = ?, rating_sum = ?, review_count = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Constructor Injection
+    public CompanyRatingRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // One JDBC batch, each row is incremented in place without reading it first
+    public int[] incrementRatings(List<ReviewEvent> reviewEvents) {
+        if (reviewEvents.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(INCREMENT_RATING, reviewEvents, reviewEvents.size(), (ps, event) -> {
+            ps.setDouble(1, event.getRatingDelta());
+            ps.setLong(2, event.getCountDelta());
+            ps.setDouble(3, event.getRatingDelta());
+            ps.setLong(4, event.getCountDelta());
+            ps.setLong(5, event.getCompanyId());
+            ps.setLong(6, event.getCountDelta());
+        })[0];
+    }
+
+    public long[] findIdRange() {
+        return jdbcTemplate.queryForObject("SELECT MIN(id), MAX(id) FROM company_tb",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+    }
+
+    // Replaces the totals of every company in the id range with the aggregates from Reviews-Service.
+    // Run inside one transaction so readers never see the reset without the new values.
+    public int rebuildRange(long fromId, long toId, List<RatingSummary> summaries) {
+        jdbcTemplate.update(RESET_RANGE, fromId, toId);
+        if (summaries.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(OVERWRITE_RATING, summaries, summaries.size(), (ps, summary) -> {
+            ps.setDouble(1, summary.getAverageRating());
+            ps.setDouble(2, summary.getRatingSum());
+            ps.setLong(3, summary.getReviewCount());
+            ps.setLong(4, summary.getCompanyId());
+        });
+        return summaries.size();
+    }
+
+    public boolean reconcileRating(
+            Long companyId, double averageRating, double ratingSum, long reviewCount, long expectedCount) {
+        return jdbcTemplate.update(RECONCILE_RATING,
+                averageRating, ratingSum, reviewCount, companyId, expectedCount) == 1;
+    }
+}
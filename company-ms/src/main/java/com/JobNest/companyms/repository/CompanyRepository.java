@@ -1,16 +1,28 @@
 package com.JobNest.companyms.repository;
 
+import com.JobNest.companyms.config.HibernateCacheConfig;
 import com.JobNest.companyms.entities.Company;
+import com.JobNest.companyms.index.CompanySummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CompanyRepository extends JpaRepository<Company, Long> {
 
+    // Cached query results hold ids only, the companies themselves come from the entity region
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHE_REGION, value = HibernateCacheConfig.COMPANY_QUERY_REGION)
+    })
     @Query(name = "Company.searchCompany")
     List<Company> fetchCompany(
             @Param("name") String name,
@@ -18,6 +30,39 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
             @Param("location") String location
     );
 
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHE_REGION, value = HibernateCacheConfig.COMPANY_QUERY_REGION)
+    })
     @Query(name = "Company.findByKeyword")
     List<Company> fetchCompaniesByKeyword(@Param("keyword") String keyword);
+
+    @Query(name = "Company.findByFullText", nativeQuery = true)
+    List<Company> fetchCompaniesByFullText(@Param("keyword") String keyword);
+
+    @Query(name = "Company.findByFullTextBoolean", nativeQuery = true)
+    List<Company> fetchCompaniesByFullTextBoolean(@Param("keyword") String keyword);
+
+    // List return type: only LIMIT is applied from the Pageable, no count query
+    @Query(name = "Company.findPageAfter")
+    List<Company> fetchPageAfter(
+            @Param("industry") String industry,
+            @Param("location") String location,
+            @Param("afterRating") Double afterRating,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    @Query("SELECT new com.JobNest.companyms.index.CompanySummary(c.id, c.name, c.industry, c.location, c.averageRating) " +
+            "FROM Company c WHERE c.status = com.JobNest.companyms.entities.CompanyStatus.ACTIVE")
+    List<CompanySummary> findAllSummaries();
+
+    @Query("SELECT new com.JobNest.companyms.index.CompanySummary(c.id, c.name, c.industry, c.location, c.averageRating) " +
+            "FROM Company c WHERE c.id = :id AND c.status = com.JobNest.companyms.entities.CompanyStatus.ACTIVE")
+    Optional<CompanySummary> findSummaryById(@Param("id") Long id);
+
+    // Header columns only, one primary key IN lookup for the whole list
+    @Query("SELECT new com.JobNest.companyms.index.CompanySummary(c.id, c.name, c.industry, c.location, c.averageRating) " +
+            "FROM Company c WHERE c.id IN :ids AND c.status = com.JobNest.companyms.entities.CompanyStatus.ACTIVE")
+    List<CompanySummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.JobNest.companyms.saga;
+
+import com.JobNest.companyms.entities.CompanyDeletion;
+import com.JobNest.companyms.events.CompanyChangedEvent;
+import com.JobNest.companyms.events.CompanyDeletionRequestedEvent;
+import com.JobNest.companyms.kafka.messaging.CompanyMsgProducer;
+import com.JobNest.companyms.repository.CompanyDeletionRepository;
+import com.JobNest.companyms.repository.CompanyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.transaction.Transactional;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Company deletion without remote calls inside a transaction:
+// the company is marked DELETING, one delete command goes to company-deleted-topic,
+// and the row is removed once Job-Service and Reviews-Service have both acknowledged.
+@Service
+public class CompanyDeletionSaga {
+
+    private static final Logger log = LoggerFactory.getLogger(CompanyDeletionSaga.class);
+    public static final String JOB_SERVICE = "job-service";
+    public static final String REVIEWS_SERVICE = "reviews-service";
+    private final CompanyDeletionRepository deletionRepo;
+    private final CompanyRepository companyRepo;
+    private final CompanyMsgProducer msgProducer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration republishAfter;
+
+    // Constructor Injection
+    public CompanyDeletionSaga(
+            CompanyDeletionRepository deletionRepo,
+            CompanyRepository companyRepo,
+            CompanyMsgProducer msgProducer,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${company.deletion.republish-after:PT1M}") Duration republishAfter) {
+        this.deletionRepo = deletionRepo;
+        this.companyRepo = companyRepo;
+        this.msgProducer = msgProducer;
+        this.eventPublisher = eventPublisher;
+        this.republishAfter = republishAfter;
+    }
+
+    // Joins the caller's transaction, which already marked the company DELETING
+    @Transactional
+    public void start(Long companyId) {
+        LocalDateTime now = LocalDateTime.now();
+        deletionRepo.save(new CompanyDeletion(companyId, false, false, now, now));
+        eventPublisher.publishEvent(new CompanyDeletionRequestedEvent(companyId));
+    }
+
+    @TransactionalEventListener
+    public void onDeletionRequested(CompanyDeletionRequestedEvent event) {
+        log.info("Company delete event");
+        msgProducer.publishMessage(event.companyId());
+    }
+
+    @Transactional
+    public void acknowledge(Long companyId, String service) {
+        CompanyDeletion deletion = deletionRepo.findForUpdate(companyId).orElse(null);
+        if (deletion == null) {
+            // Duplicate acknowledgement after the saga already completed
+            log.info("No pending deletion for company ID: {}, ack from {} ignored", companyId, service);
+            return;
+        }
+
+        if (JOB_SERVICE.equals(service)) {
+            deletion.setJobsDeleted(true);
+        } else if (REVIEWS_SERVICE.equals(service)) {
+            deletion.setReviewsDeleted(true);
+        } else {
+            log.warn("Unknown service '{}' acknowledged deletion of company ID: {}", service, companyId);
+            return;
+        }
+        log.info("Deletion of company ID: {} acknowledged by {}", companyId, service);
+
+        if (deletion.isJobsDeleted() && deletion.isReviewsDeleted()) {
+            companyRepo.deleteById(companyId);
+            deletionRepo.delete(deletion);
+            eventPublisher.publishEvent(new CompanyChangedEvent(companyId));
+            log.info("Company ID: {} deleted", companyId);
+        }
+    }
+
+    // Commands lost or not acknowledged in time are sent again, both consumers are idempotent
+    @Scheduled(fixedDelayString = "${company.deletion.check-interval:PT30S}")
+    @Transactional
+    public void republishPending() {
+        LocalDateTime now = LocalDateTime.now();
+        List<CompanyDeletion> pending = deletionRepo.findByLastPublishedAtBefore(now.minus(republishAfter));
+        for (CompanyDeletion deletion : pending) {
+            log.warn("Deletion of company ID: {} pending since {}, republishing", deletion.getCompanyId(), deletion.getRequestedAt());
+            deletion.setLastPublishedAt(now);
+            eventPublisher.publishEvent(new CompanyDeletionRequestedEvent(deletion.getCompanyId()));
+        }
+    }
+}
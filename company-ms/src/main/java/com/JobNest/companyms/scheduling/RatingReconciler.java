@@ -0,0 +1,148 @@
+package com.JobNest.companyms.scheduling;
+
+import com.JobNest.companyms.dto.RatingSummary;
+import com.JobNest.companyms.entities.Company;
+import com.JobNest.companyms.events.CompanyChangedEvent;
+import com.JobNest.companyms.external.clients.ReviewClient;
+import com.JobNest.companyms.repository.CompanyRatingRepository;
+import com.JobNest.companyms.repository.CompanyRepository;
+import feign.FeignException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Incremental ratings drift when review events are lost or replayed.
+// Periodically compares each average with Reviews-Service and corrects the running totals,
+// one batched summary call per page of companies.
+@Component
+@ConditionalOnProperty(name = "company.rating.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class RatingReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(RatingReconciler.class);
+    private static final double TOLERANCE = 1e-6;
+    // Format of postedAt in Reviews-Service, local time of the service hosts
+    private static final DateTimeFormatter LAST_REVIEW_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private final CompanyRepository companyRepo;
+    private final CompanyRatingRepository ratingRepo;
+    private final ReviewClient reviewClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int pageSize;
+    private final Duration lagWindow;
+
+    // Constructor Injection
+    public RatingReconciler(
+            CompanyRepository companyRepo,
+            CompanyRatingRepository ratingRepo,
+            ReviewClient reviewClient,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${company.rating.reconcile.page-size:100}") int pageSize,
+            @Value("${company.rating.reconcile.lag-window:PT5M}") Duration lagWindow) {
+        this.companyRepo = companyRepo;
+        this.ratingRepo = ratingRepo;
+        this.reviewClient = reviewClient;
+        this.eventPublisher = eventPublisher;
+        this.pageSize = pageSize;
+        this.lagWindow = lagWindow;
+    }
+
+    @Scheduled(
+            initialDelayString = "${company.rating.reconcile.initial-delay:PT10M}",
+            fixedDelayString = "${company.rating.reconcile.interval:PT6H}")
+    public void reconcileRatings() {
+        log.info("Executing reconcileRatings()");
+        Pageable pageable = PageRequest.of(0, pageSize, Sort.by("id"));
+        // Reviews newer than the lag window may still be queued in Kafka, their deltas would be counted twice
+        LocalDateTime settledBefore = LocalDateTime.now().minus(lagWindow);
+        int corrected = 0;
+        int skipped = 0;
+        Page<Company> companies;
+        do {
+            companies = companyRepo.findAll(pageable);
+            // Companies with a local count of 0 are included, their review events may never have arrived
+            Map<Long, Company> pageCompanies = new HashMap<>();
+            for (Company company : companies) {
+                pageCompanies.put(company.getId(), company);
+            }
+            if (!pageCompanies.isEmpty()) {
+                List<RatingSummary> summaries;
+                try {
+                    summaries = reviewClient.getRatingSummariesByCompIds(pageCompanies.keySet());
+                } catch (FeignException ex) {
+                    log.warn("Reviews-Service unavailable, rating reconciliation stopped: {}", ex.getMessage());
+                    return;
+                }
+                for (RatingSummary summary : summaries) {
+                    Company company = pageCompanies.remove(summary.getCompanyId());
+                    if (!isSettled(summary, settledBefore)) {
+                        skipped++;
+                        continue;
+                    }
+                    corrected += reconcile(company, summary) ? 1 : 0;
+                }
+                // Absent from the summaries: Reviews-Service has no reviews for these companies.
+                // Like the rebuild, they keep their last average but lose the totals.
+                for (Company company : pageCompanies.values()) {
+                    RatingSummary noReviews = new RatingSummary(company.getId(), company.getAverageRating(), 0L, 0.0, null);
+                    corrected += reconcile(company, noReviews) ? 1 : 0;
+                }
+            }
+            pageable = companies.nextPageable();
+        } while (companies.hasNext());
+        log.info("Rating reconciliation finished, {} companies corrected, {} with recent reviews skipped",
+                corrected, skipped);
+    }
+
+    // The summary already carries the newest review, no extra call is needed for the lag guard
+    private boolean isSettled(RatingSummary summary, LocalDateTime settledBefore) {
+        if (summary.getLastReviewAt() == null) {
+            return true;
+        }
+        try {
+            return LocalDateTime.parse(summary.getLastReviewAt(), LAST_REVIEW_FORMAT).isBefore(settledBefore);
+        } catch (DateTimeParseException ex) {
+            log.warn("Unreadable lastReviewAt '{}' of company ID: {}, skipped", summary.getLastReviewAt(),
+                    summary.getCompanyId());
+            return false;
+        }
+    }
+
+    // Count and sum are compared too: a lost and a duplicated event can cancel out in the average
+    private boolean reconcile(Company company, RatingSummary summary) {
+        if (company == null || summary.getAverageRating() == null
+                || summary.getRatingSum() == null || summary.getReviewCount() == null) {
+            return false;
+        }
+        long localCount = company.getReviewCount() == null ? 0L : company.getReviewCount();
+        double localSum = company.getRatingSum() == null ? 0.0 : company.getRatingSum();
+        if (localCount == summary.getReviewCount()
+                && Math.abs(localSum - summary.getRatingSum()) < TOLERANCE
+                && Math.abs(summary.getAverageRating() - company.getAverageRating()) < TOLERANCE) {
+            return false;
+        }
+        // Skipped if a review arrived meanwhile, the next run picks it up
+        boolean corrected = ratingRepo.reconcileRating(company.getId(),
+                summary.getAverageRating(), summary.getRatingSum(), summary.getReviewCount(), localCount);
+        if (corrected) {
+            log.info("Rating of company ID: {} corrected from {} ({} reviews) to {} ({} reviews)", company.getId(),
+                    company.getAverageRating(), localCount, summary.getAverageRating(), summary.getReviewCount());
+            eventPublisher.publishEvent(new CompanyChangedEvent(company.getId()));
+        }
+        return corrected;
+    }
+}
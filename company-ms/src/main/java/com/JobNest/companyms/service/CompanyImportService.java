@@ -0,0 +1,15 @@
+package com.JobNest.companyms.service;
+
+import com.JobNest.companyms.dto.CompanyImportReport;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Service
+public interface CompanyImportService {
+
+    CompanyImportReport importCsv(InputStream input) throws IOException;
+
+    CompanyImportReport importNdjson(InputStream input) throws IOException;
+}
@@ -1,18 +1,37 @@
 package com.JobNest.companyms.service;
 
 import com.JobNest.companyms.dto.CompanyDto;
+import com.JobNest.companyms.dto.CompanyInclude;
+import com.JobNest.companyms.dto.CompanyPageDto;
+import com.JobNest.companyms.dto.CompanyProfileDto;
+import com.JobNest.companyms.dto.ReviewEvent;
 import com.JobNest.companyms.entities.Company;
+import com.JobNest.companyms.index.FacetCounts;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 public interface CompanyService {
 
-    List<CompanyDto> getCompanies();
+    CompanyPageDto getCompanies(String industry, String location, Double afterRating, Long afterId, int size);
 
-    CompanyDto getCompanyById(Long id);
+    CompanyDto getCompanyById(Long id, Set<CompanyInclude> includes);
+
+    CompanyProfileDto getCompanyProfile(Long id);
+
+    List<CompanyDto> getTopCompanies(String industry, int limit);
+
+    List<CompanyDto> getCompanyNameSuggestions(String prefix, int limit);
+
+    FacetCounts getCompanyFacets(String industry, String location);
+
+    List<CompanyDto> getCompaniesByIds(Collection<Long> ids);
+
+    List<CompanyDto> getCompanyHeaders(Collection<Long> ids);
 
     CompanyDto createCompany(Company company);
 
@@ -20,7 +39,9 @@ public interface CompanyService {
 
     boolean deleteCompanyById(Long id);
 
+    int applyReviewEvents(List<ReviewEvent> reviewEvents);
+
     List<CompanyDto> searchCompany(Map<String, String> searchCriteria);
 
-    List<CompanyDto> getCompanyByKeyword(String keyword);
+    List<CompanyDto> getCompanyByKeyword(String keyword, boolean booleanMode);
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.JobNest.companyms.service;
+
+import com.JobNest.companyms.dto.RatingRebuildStatus;
+import org.springframework.stereotype.Service;
+
+@Service
+public interface RatingRebuildService {
+
+    // Returns the status of the started rebuild, or of the one already running
+    RatingRebuildStatus startRebuild();
+
+    // Null when no rebuild ran since startup
+    RatingRebuildStatus getStatus();
+}
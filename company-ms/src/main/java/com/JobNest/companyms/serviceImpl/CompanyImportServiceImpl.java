@@ -0,0 +1,246 @@
+package com.JobNest.companyms.serviceImpl;
+
+import com.JobNest.companyms.cache.CompanyAggregateCache;
+import com.JobNest.companyms.cache.SecondLevelCacheEvictor;
+import com.JobNest.companyms.dto.CompanyImportReport;
+import com.JobNest.companyms.entities.Company;
+import com.JobNest.companyms.index.CompanyIndexRefresher;
+import com.JobNest.companyms.profile.CompanyProfileProjector;
+import com.JobNest.companyms.repository.CompanyImportRepository;
+import com.JobNest.companyms.service.CompanyImportService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// Reads the upload line by line and writes it in JDBC batches, so memory is bounded by
+// the batch size and not by the file. Invalid rows are reported and skipped.
+@Service
+public class CompanyImportServiceImpl implements CompanyImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(CompanyImportServiceImpl.class);
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "industry", "location", "averagerating");
+    private final CompanyImportRepository importRepo;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final CompanyAggregateCache companyCache;
+    private final SecondLevelCacheEvictor secondLevelCache;
+    private final CompanyIndexRefresher indexRefresher;
+    private final CompanyProfileProjector profileProjector;
+    private final int batchSize;
+    private final int maxErrors;
+
+    // Constructor Injection
+    public CompanyImportServiceImpl(
+            CompanyImportRepository importRepo,
+            Validator validator,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            CompanyAggregateCache companyCache,
+            SecondLevelCacheEvictor secondLevelCache,
+            CompanyIndexRefresher indexRefresher,
+            CompanyProfileProjector profileProjector,
+            @Value("${company.import.batch-size:500}") int batchSize,
+            @Value("${company.import.max-errors:100}") int maxErrors) {
+        this.importRepo = importRepo;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.companyCache = companyCache;
+        this.secondLevelCache = secondLevelCache;
+        this.indexRefresher = indexRefresher;
+        this.profileProjector = profileProjector;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    // Header row required: name, description (optional), industry, location, averageRating
+    @Override
+    public CompanyImportReport importCsv(InputStream input) throws IOException {
+        log.info("Executing importCsv()");
+        ImportBatch batch = new ImportBatch();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            if (header == null) {
+                return batch.finish();
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            List<String> headerFields = parseCsvLine(header);
+            for (int i = 0; i < headerFields.size(); i++) {
+                columns.put(headerFields.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+            if (!missing.isEmpty()) {
+                batch.reject(1, "Missing columns: " + missing);
+                return batch.finish();
+            }
+
+            long lineNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> fields = parseCsvLine(line);
+                Company company = new Company();
+                company.setName(field(fields, columns.get("name")));
+                company.setDescription(field(fields, columns.get("description")));
+                company.setIndustry(field(fields, columns.get("industry")));
+                company.setLocation(field(fields, columns.get("location")));
+                String rating = field(fields, columns.get("averagerating"));
+                try {
+                    company.setAverageRating(rating == null ? null : Double.valueOf(rating));
+                } catch (NumberFormatException ex) {
+                    batch.reject(lineNumber, "averageRating is not a number: " + rating);
+                    continue;
+                }
+                batch.add(lineNumber, company);
+            }
+        }
+        return batch.finish();
+    }
+
+    // One Company JSON object per line
+    @Override
+    public CompanyImportReport importNdjson(InputStream input) throws IOException {
+        log.info("Executing importNdjson()");
+        ImportBatch batch = new ImportBatch();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    batch.add(lineNumber, objectMapper.readValue(line, Company.class));
+                } catch (JsonProcessingException ex) {
+                    batch.reject(lineNumber, "Malformed JSON: " + ex.getOriginalMessage());
+                }
+            }
+        }
+        return batch.finish();
+    }
+
+    private static String field(List<String> fields, Integer index) {
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // RFC 4180 fields on a single line: comma separated, optional quotes, "" escapes a quote
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    // Validates rows, buffers up to batchSize and flushes each batch in its own transaction
+    private class ImportBatch {
+        private final CompanyImportReport report = new CompanyImportReport();
+        private final List<Company> companies = new ArrayList<>(batchSize);
+        private final List<Long> lineNumbers = new ArrayList<>(batchSize);
+
+        void add(long lineNumber, Company company) {
+            report.setProcessed(report.getProcessed() + 1);
+            Set<ConstraintViolation<Company>> violations = validator.validate(company);
+            if (!violations.isEmpty()) {
+                error(lineNumber, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+            companies.add(company);
+            lineNumbers.add(lineNumber);
+            if (companies.size() == batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long lineNumber, String message) {
+            report.setProcessed(report.getProcessed() + 1);
+            error(lineNumber, message);
+        }
+
+        CompanyImportReport finish() {
+            flush();
+            if (report.getImported() > 0) {
+                // Upserts bypass JPA and events, refresh the read models from the table
+                secondLevelCache.evictAllCompanies();
+                companyCache.evictAll();
+                indexRefresher.rebuild();
+                profileProjector.syncCompanyFields();
+            }
+            log.info("Import finished: {} processed, {} imported, {} failed",
+                    report.getProcessed(), report.getImported(), report.getFailed());
+            return report;
+        }
+
+        private void flush() {
+            if (companies.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> importRepo.upsertCompanies(companies));
+                report.setImported(report.getImported() + companies.size());
+            } catch (DataAccessException ex) {
+                String message = "Batch rejected by database: " + ex.getMostSpecificCause().getMessage();
+                log.warn("Import batch of {} rows failed: {}", companies.size(), message);
+                lineNumbers.forEach(lineNumber -> error(lineNumber, message));
+            }
+            companies.clear();
+            lineNumbers.clear();
+        }
+
+        private void error(long lineNumber, String message) {
+            report.setFailed(report.getFailed() + 1);
+            if (report.getErrors().size() < maxErrors) {
+                report.getErrors().add(new CompanyImportReport.RowError(lineNumber, message));
+            } else {
+                report.setErrorsTruncated(true);
+            }
+        }
+    }
+}
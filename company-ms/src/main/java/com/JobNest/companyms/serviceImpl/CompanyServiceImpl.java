@@ -1,51 +1,109 @@
 package com.JobNest.companyms.serviceImpl;
 
+import com.JobNest.companyms.cache.CompanyAggregateCache;
 import com.JobNest.companyms.dto.CompanyDto;
+import com.JobNest.companyms.dto.CompanyInclude;
+import com.JobNest.companyms.dto.CompanyPageDto;
+import com.JobNest.companyms.dto.CompanyProfileDto;
 import com.JobNest.companyms.dto.JobDto;
+import com.JobNest.companyms.dto.ReviewEvent;
 import com.JobNest.companyms.entities.Company;
+import com.JobNest.companyms.entities.CompanyStatus;
+import com.JobNest.companyms.events.CompanyChangedEvent;
 import com.JobNest.companyms.exceptions.ApplicationException;
-import com.JobNest.companyms.exceptions.ExternalServiceException;
-import com.JobNest.companyms.exceptions.ResourceNotFoundException;
 import com.JobNest.companyms.external.clients.JobClient;
 import com.JobNest.companyms.helper.ApiResponse;
+import com.JobNest.companyms.helper.BooleanModeQuery;
 import com.JobNest.companyms.helper.DtoMapper;
-import com.JobNest.companyms.kafka.messaging.CompanyMsgProducer;
+import com.JobNest.companyms.index.CompanyCatalog;
+import com.JobNest.companyms.index.CompanyLeaderboard;
+import com.JobNest.companyms.index.CompanyNameTrie;
+import com.JobNest.companyms.index.CompanySummary;
+import com.JobNest.companyms.index.FacetCounts;
+import com.JobNest.companyms.profile.CompanyProfileProjector;
+import com.JobNest.companyms.repository.CompanyProfileRepository;
+import com.JobNest.companyms.repository.CompanyRatingRepository;
 import com.JobNest.companyms.repository.CompanyRepository;
+import com.JobNest.companyms.saga.CompanyDeletionSaga;
 import com.JobNest.companyms.service.CompanyService;
 import feign.FeignException;
-import io.github.resilience4j.retry.annotation.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.dao.DataAccessException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
 import java.lang.reflect.Field;
+import java.sql.Statement;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
 
 @Service
 public class CompanyServiceImpl implements CompanyService {
 
     private static final Logger log = LoggerFactory.getLogger(CompanyServiceImpl.class);
-    // ThreadLocal to maintain attempt count for each method call independently
-    private static final ThreadLocal<Integer> attemptCounter = ThreadLocal.withInitial(() -> 0);
+    // First keyset page of the company's reviews, the page carries the cursor for the next one
+    private static final String REVIEWS_URL = "/api/reviews/company?size=20&companyId=";
     private final CompanyRepository companyRepo;
+    private final CompanyRatingRepository ratingRepo;
+    private final CompanyProfileRepository profileRepo;
+    private final CompanyProfileProjector profileProjector;
     private final JobClient jobClient;
     private final DtoMapper dtoMapper;
-    private final CompanyMsgProducer msgProducer;
+    private final CompanyDeletionSaga deletionSaga;
+    private final RetryRegistry retryRegistry;
+    private final Executor fanOutExecutor;
+    private final Duration fanOutDeadline;
+    private final boolean fullTextSearch;
+    private final CompanyAggregateCache companyCache;
+    private final CompanyLeaderboard leaderboard;
+    private final CompanyNameTrie nameTrie;
+    private final CompanyCatalog catalog;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Constructor Injection
     public CompanyServiceImpl(
             CompanyRepository companyRepo,
+            CompanyRatingRepository ratingRepo,
+            CompanyProfileRepository profileRepo,
+            CompanyProfileProjector profileProjector,
             JobClient jobClient,
             DtoMapper dtoMapper,
-            CompanyMsgProducer msgProducer
+            CompanyDeletionSaga deletionSaga,
+            RetryRegistry retryRegistry,
+            @Qualifier("fanOutExecutor") Executor fanOutExecutor,
+            @Value("${company.fanout.deadline:800ms}") Duration fanOutDeadline,
+            @Value("${company.search.mode:like}") String searchMode,
+            CompanyAggregateCache companyCache,
+            CompanyLeaderboard leaderboard,
+            CompanyNameTrie nameTrie,
+            CompanyCatalog catalog,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.companyRepo = companyRepo;
+        this.ratingRepo = ratingRepo;
+        this.profileRepo = profileRepo;
+        this.profileProjector = profileProjector;
         this.jobClient = jobClient;
         this.dtoMapper = dtoMapper;
-        this.msgProducer = msgProducer;
+        this.deletionSaga = deletionSaga;
+        this.retryRegistry = retryRegistry;
+        this.fanOutExecutor = fanOutExecutor;
+        this.fanOutDeadline = fanOutDeadline;
+        this.fullTextSearch = "fulltext".equalsIgnoreCase(searchMode);
+        this.companyCache = companyCache;
+        this.leaderboard = leaderboard;
+        this.nameTrie = nameTrie;
+        this.catalog = catalog;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -53,6 +111,7 @@ public class CompanyServiceImpl implements CompanyService {
     public CompanyDto createCompany(Company company) {
         log.info("Executing createCompany()");
         Company savedCompany = companyRepo.save(company);
+        eventPublisher.publishEvent(new CompanyChangedEvent(savedCompany.getId()));
         log.info("Company saved with Id: {}", savedCompany.getId());
         return dtoMapper.mapToCompanyDto(savedCompany);
     }
@@ -61,7 +120,7 @@ public class CompanyServiceImpl implements CompanyService {
     @Transactional
     public boolean updateCompany(Long id, Company newCompany) {
         log.info("Executing updateCompany()");
-        Optional<Company> optCompany = companyRepo.findById(id);
+        Optional<Company> optCompany = companyRepo.findById(id).filter(this::isActive);
         if (optCompany.isEmpty()) {
             log.warn("Company Id {} not found.", id);
             return false;
@@ -70,111 +129,255 @@ public class CompanyServiceImpl implements CompanyService {
         Company copiedCompany = setNonNullPropertyNames(company, newCompany);
 
         companyRepo.save(copiedCompany);
+        eventPublisher.publishEvent(new CompanyChangedEvent(id));
         return true;
     }
 
     @Override
-    // @CircuitBreaker(name = "external-client-breaker", fallbackMethod = "fallbackGetCompanyById")
-    @Retry(name = "external-client-breaker", fallbackMethod = "fallbackGetCompanyById")
-    public CompanyDto getCompanyById(Long id) {
-        attemptCounter.set(attemptCounter.get() + 1);
-        int attempt = attemptCounter.get();
+    public CompanyDto getCompanyById(Long id, Set<CompanyInclude> includes) {
+        return companyCache.get(id, includes, companyId -> loadCompanyAggregate(companyId, includes));
+    }
 
-        String reviewUrl = "/api/reviews/company?companyId=" + id;
-        CompanyDto companyDto = null;
-        Optional<Company> company = companyRepo.findById(id);
+    // Without includes this is a single local read. Requested remote enrichments are fetched
+    // concurrently with the company row under one overall deadline; if they are late or
+    // job-service fails, the company is returned with jobs marked unavailable.
+    // reviewsSummary comes from the locally maintained rating totals and needs no remote call.
+    private CompanyDto loadCompanyAggregate(Long id, Set<CompanyInclude> includes) {
+        String reviewUrl = REVIEWS_URL + id;
+        boolean withJobs = includes.contains(CompanyInclude.JOBS);
+        // The job list already gives the count, no separate call
+        boolean withJobCount = includes.contains(CompanyInclude.JOB_COUNT) && !withJobs;
+
+        if (!withJobs && !withJobCount) {
+            Optional<Company> company = companyRepo.findById(id).filter(this::isActive);
+            if (company.isEmpty()) {
+                log.info("Company with ID: {} not found", id);
+                return null;
+            }
+            return enrich(dtoMapper.mapToDtoWithJobsAndReviewUrl(company.get(), null, reviewUrl), company.get(), includes);
+        }
 
+        long deadline = System.nanoTime() + fanOutDeadline.toNanos();
+        CompletableFuture<List<JobDto>> jobsFuture = withJobs ? submitRemote(() -> fetchJobs(id), id, "Jobs") : null;
+        CompletableFuture<Long> jobCountFuture = withJobCount ? submitRemote(() -> fetchJobCount(id), id, "Job count") : null;
+
+        // The local read runs on the request thread while job-service is called, it never queues behind remote calls
+        Optional<Company> company = companyRepo.findById(id).filter(this::isActive);
         if (company.isEmpty()) {
             log.info("Company with ID: {} not found", id);
-            attemptCounter.remove();
             return null;
         }
-        log.info("Feign call to Job-Service, attempt: {}", attempt);
 
-        ResponseEntity<ApiResponse<List<JobDto>>> responseEntity = jobClient.getJobsByCompId(id);
-        List<JobDto> jobDtos = responseEntity.getBody().getData();
-        if (jobDtos == null || jobDtos.isEmpty()) {
-            log.warn("No jobs found for company ID: {}, attempt: {}", id, attempt);
-            attemptCounter.remove();
-            return dtoMapper.mapToDtoWithJobsAndReviewUrl(company.get(), List.of(), reviewUrl);
+        List<JobDto> jobDtos = awaitRemote(jobsFuture, deadline, id, "Jobs");
+        Long jobCount = awaitRemote(jobCountFuture, deadline, id, "Job count");
+        CompanyDto companyDto = dtoMapper.mapToDtoWithJobsAndReviewUrl(company.get(), jobDtos, reviewUrl);
+        if (withJobs) {
+            companyDto.setJobsAvailable(jobDtos != null);
+            if (jobDtos != null && includes.contains(CompanyInclude.JOB_COUNT)) {
+                companyDto.setJobCount((long) jobDtos.size());
+            }
+        } else {
+            companyDto.setJobsAvailable(jobCount != null);
+            companyDto.setJobCount(jobCount);
         }
-
-        companyDto = dtoMapper.mapToDtoWithJobsAndReviewUrl(company.get(), jobDtos, reviewUrl);
         log.info("Company with ID: {} fetched successfully.", id);
+        return enrich(companyDto, company.get(), includes);
+    }
 
-        attemptCounter.remove();
+    private CompanyDto enrich(CompanyDto companyDto, Company company, Set<CompanyInclude> includes) {
+        if (includes.contains(CompanyInclude.REVIEWS_SUMMARY)) {
+            companyDto.setReviewsSummary(dtoMapper.mapToReviewsSummary(company));
+        }
         return companyDto;
     }
 
-    // FALLBACK Method
-    public CompanyDto fallbackGetCompanyById(Long id, Throwable thr) {
-        log.error("Executing fallback method");
-        if (thr instanceof ResourceNotFoundException) {
-            throw (ResourceNotFoundException) thr;
-        } else if (thr instanceof FeignException ex) {
-            throw new ExternalServiceException(ex.getMessage());
-        } else if (thr instanceof DataAccessException) {
-            throw (DataAccessException) thr;
-        } else {
-            throw new ApplicationException(thr.getMessage());
+    private List<JobDto> fetchJobs(Long id) {
+        // Only the remote call is retried, the DB read is not repeated
+        return retryRegistry.retry("job-client").executeSupplier(() -> {
+            log.info("Feign call to Job-Service for company ID: {}", id);
+            try {
+                ResponseEntity<ApiResponse<List<JobDto>>> responseEntity = jobClient.getJobsByCompId(id);
+                List<JobDto> jobDtos = responseEntity.getBody() == null ? null : responseEntity.getBody().getData();
+                return jobDtos == null ? List.of() : jobDtos;
+            } catch (FeignException.NotFound ex) {
+                // job-service answers 404 when the company has no jobs
+                return List.of();
+            }
+        });
+    }
+
+    private Long fetchJobCount(Long id) {
+        return retryRegistry.retry("job-client").executeSupplier(() -> {
+            log.info("Feign call to Job-Service to count jobs of company ID: {}", id);
+            ResponseEntity<ApiResponse<Long>> responseEntity = jobClient.countJobsByCompId(id);
+            return responseEntity.getBody() == null ? null : responseEntity.getBody().getData();
+        });
+    }
+
+    // Null when the executor is saturated, the company is then served without job data
+    private <T> CompletableFuture<T> submitRemote(Supplier<T> remoteCall, Long id, String label) {
+        try {
+            return CompletableFuture.supplyAsync(remoteCall, fanOutExecutor);
+        } catch (TaskRejectedException ex) {
+            log.warn("{} for company ID: {} not requested, executor saturated, returning partial response", label, id);
+            return null;
         }
     }
 
+    // Returns null when job data could not be fetched within the deadline, label names it in the logs.
+    // A late call is not interrupted, the Feign timeouts of JOB-SERVICE end it shortly after the deadline.
+    private <T> T awaitRemote(CompletableFuture<T> remoteFuture, long deadline, Long id, String label) {
+        if (remoteFuture == null) {
+            return null;
+        }
+        try {
+            return remoteFuture.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            log.warn("{} for company ID: {} not fetched within {} ms, returning partial response", label, id, fanOutDeadline.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            log.warn("{} for company ID: {} unavailable, returning partial response: {}", label, id, ex.getCause().getMessage());
+        }
+        return null;
+    }
+
+    // One primary key lookup on the local read model, no calls to job-service or reviews-service
     @Override
-    public List<CompanyDto> getCompanies() {
-        log.info("Executing getCompanies()");
-        List<Company> companies = companyRepo.findAll();
-        List<CompanyDto> companyDtos = new ArrayList<>();
+    public CompanyProfileDto getCompanyProfile(Long id) {
+        log.info("Executing getCompanyProfile() for Company ID: {}", id);
+        return profileRepo.findById(id).map(dtoMapper::mapToProfileDto).orElse(null);
+    }
 
-        if (companies.isEmpty()) {
-            return companyDtos;
+    // Served from the in-memory leaderboard, no database access
+    @Override
+    public List<CompanyDto> getTopCompanies(String industry, int limit) {
+        log.info("Executing getTopCompanies() for industry: {}, limit: {}", industry, limit);
+        List<CompanySummary> summaries = industry == null ? leaderboard.top(limit) : leaderboard.top(industry, limit);
+        return retrieveSummaryDtos(summaries);
+    }
+
+    // Served from the in-memory name trie, no database access
+    @Override
+    public List<CompanyDto> getCompanyNameSuggestions(String prefix, int limit) {
+        log.info("Executing getCompanyNameSuggestions() for prefix: {}", prefix);
+        return retrieveSummaryDtos(nameTrie.complete(prefix, limit));
+    }
+
+    // Served from the in-memory catalog, no database access
+    @Override
+    public FacetCounts getCompanyFacets(String industry, String location) {
+        log.info("Executing getCompanyFacets() for industry: {}, location: {}", industry, location);
+        return catalog.facets(industry, location);
+    }
+
+    private List<CompanyDto> retrieveSummaryDtos(List<CompanySummary> summaries) {
+        List<CompanyDto> companyDtos = new ArrayList<>(summaries.size());
+        for (CompanySummary summary : summaries) {
+            String reviewsUrl = REVIEWS_URL + summary.id();
+            String jobsUrl = "/api/jobs/company/" + summary.id();
+            companyDtos.add(dtoMapper.mapToDtoWithJobAndReviewUrl(summary, jobsUrl, reviewsUrl));
         }
+        return companyDtos;
+    }
 
-        List<CompanyDto> companyDtos1 = retrieveCompanyDtos(companies);
-        List<CompanyDto> sortedCompDtos = sortCompanies(companyDtos1);
-        log.info("Returning {} companies.", sortedCompDtos.size());
+    @Override
+    public List<CompanyDto> getCompaniesByIds(Collection<Long> ids) {
+        log.info("Executing getCompaniesByIds() for {} ids", ids.size());
+        List<CompanyDto> companyDtos = new ArrayList<>();
+        for (Company company : companyRepo.findAllById(ids)) {
+            if (isActive(company)) {
+                companyDtos.add(dtoMapper.mapToCompanyDto(company));
+            }
+        }
+        return companyDtos;
+    }
 
-        return sortedCompDtos;
+    // Headers only (name, industry, location, rating), no job enrichment and no remote calls
+    @Override
+    public List<CompanyDto> getCompanyHeaders(Collection<Long> ids) {
+        log.info("Executing getCompanyHeaders() for {} ids", ids.size());
+        return retrieveSummaryDtos(companyRepo.findSummariesByIdIn(ids));
+    }
+
+    // Sorted and paged by the database, one index range scan per page
+    @Override
+    public CompanyPageDto getCompanies(String industry, String location, Double afterRating, Long afterId, int size) {
+        log.info("Executing getCompanies() after rating: {}, id: {}", afterRating, afterId);
+        // One extra row tells whether another page exists
+        List<Company> companies = companyRepo.fetchPageAfter(
+                industry, location, afterRating, afterId == null ? 0L : afterId, PageRequest.of(0, size + 1));
+
+        CompanyPageDto companyPage = new CompanyPageDto();
+        companyPage.setHasMore(companies.size() > size);
+        List<Company> pageCompanies = companies.subList(0, Math.min(size, companies.size()));
+        companyPage.setCompanies(retrieveCompanyDtos(pageCompanies));
+
+        if (companyPage.isHasMore()) {
+            Company last = pageCompanies.get(pageCompanies.size() - 1);
+            companyPage.setNextAfterRating(last.getAverageRating());
+            companyPage.setNextAfterId(last.getId());
+        }
+        return companyPage;
     }
 
+    // Only a local write: the company is hidden as DELETING and the saga removes
+    // jobs, reviews and finally the row asynchronously
     @Override
     @Transactional
-    @Retry(name = "external-client-breaker", fallbackMethod = "fallbackDeleteCompanyById")
     public boolean deleteCompanyById(Long companyId) {
-        log.info("Executing deleteCompanyById() for Job ID: {}", companyId);
-        attemptCounter.set(attemptCounter.get() + 1);
-        int attempt = attemptCounter.get();
-
-        if (!companyRepo.existsById(companyId)) {
+        log.info("Executing deleteCompanyById() for Company ID: {}", companyId);
+        Optional<Company> optCompany = companyRepo.findById(companyId);
+        if (optCompany.isEmpty()) {
             log.warn("Company ID: {} does not exist.", companyId);
             return false;
         }
 
-        // first delete job
-        log.info("Feign call to Job-Service, attempt: {}", attempt);
-        jobClient.deleteJobByCompId(companyId);
-
-        // then delete reviews
-        log.info("Company delete event");
-        msgProducer.publishMessage(companyId);
-
-        // if job and reviews are deleted
-        companyRepo.deleteById(companyId);
+        Company company = optCompany.get();
+        if (!isActive(company)) {
+            log.info("Deletion of company ID: {} already in progress", companyId);
+            return true;
+        }
+        company.setStatus(CompanyStatus.DELETING);
+        companyRepo.save(company);
+        deletionSaga.start(companyId);
+        eventPublisher.publishEvent(new CompanyChangedEvent(companyId));
         return true;
     }
 
-    // FALLBACK Method
-    public boolean fallbackDeleteCompanyById(Long compid, Throwable thr) {
-        log.error("Executing fallback method");
-        if (thr instanceof ResourceNotFoundException) {
-            throw (ResourceNotFoundException) thr;
-        } else if (thr instanceof FeignException ex) {
-            throw new ExternalServiceException(ex.getMessage());
-        } else if (thr instanceof DataAccessException) {
-            throw (DataAccessException) thr;
-        } else {
-            throw new ApplicationException(thr.getMessage());
+    private boolean isActive(Company company) {
+        return company.getStatus() == CompanyStatus.ACTIVE;
+    }
+
+    // Profile histogram and rating totals of one consumer batch commit together, a redelivered
+    // batch after a failure is applied to neither. The histogram needs the star bucket of every
+    // single review, the rating deltas are summed per company and applied as one JDBC batch.
+    @Override
+    @Transactional
+    public int applyReviewEvents(List<ReviewEvent> reviewEvents) {
+        profileProjector.applyReviewEvents(reviewEvents);
+
+        Map<Long, ReviewEvent> merged = new LinkedHashMap<>();
+        for (ReviewEvent event : reviewEvents) {
+            merged.merge(event.getCompanyId(), event, (a, b) -> new ReviewEvent(
+                    a.getCompanyId(),
+                    a.getRatingDelta() + b.getRatingDelta(),
+                    a.getCountDelta() + b.getCountDelta()));
+        }
+        Collection<ReviewEvent> ratingDeltas = merged.values();
+        log.info("Executing applyReviewEvents() for {} events of {} companies", reviewEvents.size(), ratingDeltas.size());
+        int[] counts = ratingRepo.incrementRatings(new ArrayList<>(ratingDeltas));
+
+        int updated = 0;
+        for (int count : counts) {
+            // Rewritten batches report SUCCESS_NO_INFO instead of row counts
+            updated += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
         }
+        if (updated < ratingDeltas.size()) {
+            log.warn("{} companies not found while updating ratings", ratingDeltas.size() - updated);
+        }
+        ratingDeltas.forEach(event -> eventPublisher.publishEvent(new CompanyChangedEvent(event.getCompanyId())));
+        return updated;
     }
 
     @Override
@@ -189,11 +392,28 @@ public class CompanyServiceImpl implements CompanyService {
         return retrieveCompanyDtos(companies);
     }
 
+    // booleanMode only applies to FULLTEXT search, the LIKE fallback matches the keyword as given
     @Override
-    public List<CompanyDto> getCompanyByKeyword(String keyword) {
-        log.info("Executing custom query with search keyword");
-        String keywordLC = keyword.toLowerCase();
-        List<Company> companies = companyRepo.fetchCompaniesByKeyword(keywordLC);
+    public List<CompanyDto> getCompanyByKeyword(String keyword, boolean booleanMode) {
+        List<Company> companies;
+        if (fullTextSearch) {
+            log.info("Executing FULLTEXT query with search keyword, boolean mode: {}", booleanMode);
+            if (booleanMode) {
+                // Raw operators such as "+" or "((" are a syntax error in boolean mode
+                String query = BooleanModeQuery.sanitize(keyword);
+                if (query.isEmpty()) {
+                    log.info("No searchable terms left in boolean keyword");
+                    return new ArrayList<>();
+                }
+                companies = companyRepo.fetchCompaniesByFullTextBoolean(query);
+            } else {
+                companies = companyRepo.fetchCompaniesByFullText(keyword);
+            }
+        } else {
+            log.info("Executing custom query with search keyword");
+            String keywordLC = keyword.toLowerCase();
+            companies = companyRepo.fetchCompaniesByKeyword(keywordLC);
+        }
         return retrieveCompanyDtos(companies);
     }
 
@@ -207,7 +427,7 @@ public class CompanyServiceImpl implements CompanyService {
 
         for (Company company : companies) {
             Long compId = company.getId();
-            String reviewsUrl = "/api/reviews/company?companyId=" + compId;
+            String reviewsUrl = REVIEWS_URL + compId;
             String jobsUrl = "/api/jobs/company/" + compId;
             CompanyDto companyDto = dtoMapper.mapToDtoWithJobAndReviewUrl(company, jobsUrl, reviewsUrl);
             companyDtos.add(companyDto);
@@ -216,11 +436,6 @@ public class CompanyServiceImpl implements CompanyService {
         return companyDtos;
     }
 
-    public List<CompanyDto> sortCompanies(List<CompanyDto> companyDtos) {
-        companyDtos.sort(Comparator.comparingDouble(CompanyDto::getAverageRating).reversed());
-        return companyDtos;
-    }
-
     // Using Reflection to run update query only for required fields not for all
     public Company setNonNullPropertyNames(Company company, Company newJob) {
         try {
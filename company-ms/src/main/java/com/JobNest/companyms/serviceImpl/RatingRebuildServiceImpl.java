@@ -0,0 +1,168 @@
+package com.JobNest.companyms.serviceImpl;
+
+import com.JobNest.companyms.cache.CompanyAggregateCache;
+import com.JobNest.companyms.cache.SecondLevelCacheEvictor;
+import com.JobNest.companyms.dto.RatingRebuildStatus;
+import com.JobNest.companyms.dto.RatingSummary;
+import com.JobNest.companyms.external.clients.ReviewClient;
+import com.JobNest.companyms.index.CompanyIndexRefresher;
+import com.JobNest.companyms.profile.CompanyProfileProjector;
+import com.JobNest.companyms.repository.CompanyRatingRepository;
+import com.JobNest.companyms.service.RatingRebuildService;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Admin-triggered repair of all ratings after lost review events. Company ids are split into
+// fixed ranges, each range costs one GROUP BY call to Reviews-Service and one batched update.
+// Reviews consumed while a range is rewritten may be lost from that range, the reconciler
+// and the next rebuild correct them.
+@Service
+public class RatingRebuildServiceImpl implements RatingRebuildService {
+
+    private static final Logger log = LoggerFactory.getLogger(RatingRebuildServiceImpl.class);
+    private final CompanyRatingRepository ratingRepo;
+    private final ReviewClient reviewClient;
+    private final RetryRegistry retryRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor rebuildExecutor;
+    private final CompanyAggregateCache companyCache;
+    private final SecondLevelCacheEvictor secondLevelCache;
+    private final CompanyIndexRefresher indexRefresher;
+    private final CompanyProfileProjector profileProjector;
+    private final long partitionSize;
+
+    private volatile Progress progress;
+
+    // Constructor Injection
+    public RatingRebuildServiceImpl(
+            CompanyRatingRepository ratingRepo,
+            ReviewClient reviewClient,
+            RetryRegistry retryRegistry,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("ratingRebuildExecutor") Executor rebuildExecutor,
+            CompanyAggregateCache companyCache,
+            SecondLevelCacheEvictor secondLevelCache,
+            CompanyIndexRefresher indexRefresher,
+            CompanyProfileProjector profileProjector,
+            @Value("${company.rating.rebuild.partition-size:1000}") long partitionSize) {
+        this.ratingRepo = ratingRepo;
+        this.reviewClient = reviewClient;
+        this.retryRegistry = retryRegistry;
+        this.transactionTemplate = transactionTemplate;
+        this.rebuildExecutor = rebuildExecutor;
+        this.companyCache = companyCache;
+        this.secondLevelCache = secondLevelCache;
+        this.indexRefresher = indexRefresher;
+        this.profileProjector = profileProjector;
+        this.partitionSize = partitionSize;
+    }
+
+    @Override
+    public synchronized RatingRebuildStatus startRebuild() {
+        if (progress != null && progress.finishedAt == null) {
+            log.info("Rating rebuild already running");
+            return progress.snapshot();
+        }
+
+        long[] idRange = ratingRepo.findIdRange();
+        List<long[]> partitions = new ArrayList<>();
+        // MAX(id) is 0 when the table is empty
+        for (long from = idRange[0]; idRange[1] > 0 && from <= idRange[1]; from += partitionSize) {
+            partitions.add(new long[]{from, Math.min(from + partitionSize - 1, idRange[1])});
+        }
+
+        Progress started = new Progress(partitions.size());
+        progress = started;
+        log.info("Rating rebuild started for company IDs {} to {} in {} partitions", idRange[0], idRange[1], partitions.size());
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(partitions.size());
+        for (long[] partition : partitions) {
+            futures.add(CompletableFuture.runAsync(() -> rebuildPartition(partition[0], partition[1], started), rebuildExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .whenComplete((result, ex) -> finish(started));
+        return started.snapshot();
+    }
+
+    @Override
+    public RatingRebuildStatus getStatus() {
+        Progress current = progress;
+        return current == null ? null : current.snapshot();
+    }
+
+    private void rebuildPartition(long fromId, long toId, Progress progress) {
+        try {
+            List<RatingSummary> summaries = retryRegistry.retry("review-client")
+                    .executeSupplier(() -> reviewClient.getRatingSummaries(fromId, toId));
+            Integer updated = transactionTemplate.execute(status -> ratingRepo.rebuildRange(fromId, toId, summaries));
+            progress.companiesUpdated.addAndGet(updated == null ? 0 : updated);
+            progress.completedPartitions.incrementAndGet();
+        } catch (RuntimeException ex) {
+            log.warn("Rating rebuild of company IDs {} to {} failed: {}", fromId, toId, ex.getMessage());
+            progress.failedPartitions.incrementAndGet();
+        }
+    }
+
+    private void finish(Progress finished) {
+        finished.finishedAt = LocalDateTime.now();
+        // Ratings were rewritten in SQL, refresh the read models from the table
+        secondLevelCache.evictAllCompanies();
+        companyCache.evictAll();
+        indexRefresher.rebuild();
+        profileProjector.syncCompanyFields();
+
+        RatingRebuildStatus status = finished.snapshot();
+        log.info("Rating rebuild {}: {} of {} partitions, {} companies updated, {} companies/s",
+                status.getState(), status.getCompletedPartitions(), status.getTotalPartitions(),
+                status.getCompaniesUpdated(), String.format("%.1f", status.getCompaniesPerSecond()));
+    }
+
+    private static class Progress {
+        private final int totalPartitions;
+        private final AtomicInteger completedPartitions = new AtomicInteger();
+        private final AtomicInteger failedPartitions = new AtomicInteger();
+        private final AtomicLong companiesUpdated = new AtomicLong();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile LocalDateTime finishedAt;
+
+        private Progress(int totalPartitions) {
+            this.totalPartitions = totalPartitions;
+        }
+
+        private RatingRebuildStatus snapshot() {
+            LocalDateTime end = finishedAt == null ? LocalDateTime.now() : finishedAt;
+            long elapsedMillis = Math.max(1, Duration.between(startedAt, end).toMillis());
+
+            RatingRebuildStatus status = new RatingRebuildStatus();
+            if (finishedAt == null) {
+                status.setState(RatingRebuildStatus.State.RUNNING);
+            } else {
+                status.setState(failedPartitions.get() == 0
+                        ? RatingRebuildStatus.State.COMPLETED
+                        : RatingRebuildStatus.State.FAILED);
+            }
+            status.setTotalPartitions(totalPartitions);
+            status.setCompletedPartitions(completedPartitions.get());
+            status.setFailedPartitions(failedPartitions.get());
+            status.setCompaniesUpdated(companiesUpdated.get());
+            status.setStartedAt(startedAt);
+            status.setFinishedAt(finishedAt);
+            status.setCompaniesPerSecond(companiesUpdated.get() * 1000.0 / elapsedMillis);
+            return status;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.JobNest.companyms;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+
+// Compares the LIKE and FULLTEXT keyword queries on a scratch MySQL table.
+// Run with: mvn test -Dtest=CompanySearchBenchmarkTests -Dbenchmark.mysql.url=jdbc:mysql://localhost:3306/mysqldb
+//           [-Dbenchmark.mysql.user=root -Dbenchmark.mysql.password=... -Dbenchmark.rows=200000]
+@EnabledIfSystemProperty(named = "benchmark.mysql.url", matches = ".+")
+class CompanySearchBenchmarkTests {
+
+    private static final String TABLE = "company_search_bench";
+    private static final String[] WORDS = {
+            "acme", "global", "systems", "labs", "digital", "health", "finance", "energy", "retail", "logistics",
+            "cloud", "data", "software", "motors", "foods", "media", "capital", "networks", "bio", "solutions"};
+    private static final String[] CITIES = {"pune", "mumbai", "delhi", "bangalore", "chennai", "hyderabad", "kolkata"};
+    private static final int RUNS = 50;
+    private static Connection connection;
+
+    @BeforeAll
+    static void seed() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.mysql.url"),
+                System.getProperty("benchmark.mysql.user", "root"),
+                System.getProperty("benchmark.mysql.password", ""));
+        int rows = Integer.getInteger("benchmark.rows", 200_000);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                    "name VARCHAR(50), industry VARCHAR(25), location VARCHAR(25), average_rating DOUBLE)");
+        }
+
+        Random random = new Random(42);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + TABLE + " (name, industry, location, average_rating) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                insert.setString(1, WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i);
+                insert.setString(2, WORDS[random.nextInt(WORDS.length)]);
+                insert.setString(3, CITIES[random.nextInt(CITIES.length)]);
+                insert.setDouble(4, random.nextInt(50) / 10.0);
+                insert.addBatch();
+                if (i % 1000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE FULLTEXT INDEX ft_bench ON " + TABLE + " (name, industry, location)");
+        }
+    }
+
+    @AfterAll
+    static void drop() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.close();
+    }
+
+    @Test
+    void compareLikeAndFullText() throws SQLException {
+        String like = "SELECT id FROM " + TABLE + " WHERE name LIKE ? OR industry LIKE ? OR location LIKE ?";
+        String natural = "SELECT id FROM " + TABLE + " WHERE MATCH(name, industry, location) AGAINST (? IN NATURAL LANGUAGE MODE) " +
+                "ORDER BY MATCH(name, industry, location) AGAINST (? IN NATURAL LANGUAGE MODE) DESC, average_rating DESC";
+        String bool = "SELECT id FROM " + TABLE + " WHERE MATCH(name, industry, location) AGAINST (? IN BOOLEAN MODE) " +
+                "ORDER BY MATCH(name, industry, location) AGAINST (? IN BOOLEAN MODE) DESC, average_rating DESC";
+
+        report("LIKE %keyword%", like, "%acme%", 3);
+        report("FULLTEXT natural", natural, "acme", 2);
+        report("FULLTEXT boolean", bool, "+acme +cloud", 2);
+    }
+
+    private void report(String label, String sql, String keyword, int params) throws SQLException {
+        int matches = 0;
+        try (PreparedStatement query = connection.prepareStatement(sql)) {
+            for (int i = 1; i <= params; i++) {
+                query.setString(i, keyword);
+            }
+            // Warm up buffer pool and query plan before timing
+            matches = count(query);
+            long start = System.nanoTime();
+            for (int run = 0; run < RUNS; run++) {
+                count(query);
+            }
+            double avgMs = (System.nanoTime() - start) / 1_000_000.0 / RUNS;
+            System.out.printf("%-18s %8.2f ms/query, %d rows%n", label, avgMs, matches);
+        }
+    }
+
+    private int count(PreparedStatement query) throws SQLException {
+        int rows = 0;
+        try (ResultSet resultSet = query.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
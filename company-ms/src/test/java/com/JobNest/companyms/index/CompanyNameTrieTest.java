@@ -0,0 +1,131 @@
+package com.JobNest.companyms.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompanyNameTrieTest {
+
+    private final CompanyNameTrie trie = new CompanyNameTrie(10);
+
+    @Test
+    void completesPrefixesIncludingInsideEdgeLabels() {
+        trie.put(summary(1L, "Acme Corp", 4.0));
+        trie.put(summary(2L, "Acmeco", 3.0));
+        trie.put(summary(3L, "Apex", 5.0));
+
+        assertEquals(List.of(3L, 1L, 2L), ids(trie.complete("a", 10)));
+        assertEquals(List.of(1L, 2L), ids(trie.complete("ac", 10)));
+        assertEquals(List.of(1L, 2L), ids(trie.complete("acme", 10)));
+        assertEquals(List.of(2L), ids(trie.complete("acmec", 10)));
+        assertEquals(List.of(1L), ids(trie.complete("acme c", 10)));
+        assertTrue(trie.complete("acx", 10).isEmpty());
+        assertTrue(trie.complete("acmecorp", 10).isEmpty());
+        assertTrue(trie.complete("  ", 10).isEmpty());
+    }
+
+    @Test
+    void matchesEveryWordStartOnce() {
+        trie.put(summary(1L, "Global Acme Acme", 4.0));
+
+        assertEquals(List.of(1L), ids(trie.complete("acme", 10)));
+        assertEquals(List.of(1L), ids(trie.complete("glob", 10)));
+    }
+
+    @Test
+    void normalizesCaseAccentsAndPunctuation() {
+        trie.put(summary(1L, "Café-Société", 4.0));
+
+        assertEquals(List.of(1L), ids(trie.complete("CAFE SOC", 10)));
+        assertEquals(List.of(1L), ids(trie.complete("societe", 10)));
+    }
+
+    @Test
+    void ranksByRatingThenIdAndHonoursLimit() {
+        trie.put(summary(5L, "Beta Five", 3.5));
+        trie.put(summary(2L, "Beta Two", 4.5));
+        trie.put(summary(4L, "Beta Four", 4.5));
+        trie.put(summary(1L, "Beta One", 2.0));
+
+        assertEquals(List.of(2L, 4L, 5L, 1L), ids(trie.complete("beta", 10)));
+        assertEquals(List.of(2L, 4L), ids(trie.complete("beta", 2)));
+    }
+
+    @Test
+    void rankingFollowsRatingUpdates() {
+        trie.put(summary(1L, "Gamma One", 4.0));
+        trie.put(summary(2L, "Gamma Two", 3.0));
+        trie.put(summary(2L, "Gamma Two", 4.8));
+
+        assertEquals(List.of(2L, 1L), ids(trie.complete("gamma", 10)));
+    }
+
+    @Test
+    void renameAndRemoveDropOldKeys() {
+        trie.put(summary(1L, "Acme", 4.0));
+        trie.put(summary(2L, "Acmeco", 3.0));
+        trie.put(summary(1L, "Zenith", 4.0));
+
+        assertEquals(List.of(2L), ids(trie.complete("acme", 10)));
+        assertEquals(List.of(1L), ids(trie.complete("zen", 10)));
+
+        trie.remove(2L);
+        assertTrue(trie.complete("a", 10).isEmpty());
+        assertEquals(Set.of(1L), trie.companyIds());
+
+        // Structure after pruning and merging still accepts new splits
+        trie.put(summary(3L, "Acmeco", 3.0));
+        trie.put(summary(4L, "Acorn", 2.0));
+        assertEquals(List.of(3L, 4L), ids(trie.complete("ac", 10)));
+        assertEquals(List.of(3L), ids(trie.complete("acm", 10)));
+    }
+
+    @Test
+    void matchesBruteForceUnderRandomChanges() {
+        CompanyNameTrie small = new CompanyNameTrie(3);
+        Random random = new Random(7);
+        String[] words = {"ac", "acme", "acmeco", "a", "alpha", "alp", "b", "beta", "bet", "co", "corp"};
+        Map<Long, CompanySummary> expected = new HashMap<>();
+
+        for (int step = 0; step < 3000; step++) {
+            long id = random.nextInt(40);
+            if (random.nextInt(4) == 0) {
+                small.remove(id);
+                expected.remove(id);
+            } else {
+                String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+                CompanySummary summary = summary(id, name, random.nextInt(10) / 2.0);
+                small.put(summary);
+                expected.put(id, summary);
+            }
+
+            String prefix = words[random.nextInt(words.length)];
+            prefix = prefix.substring(0, 1 + random.nextInt(prefix.length()));
+            assertEquals(bruteForce(expected.values(), prefix, 3), ids(small.complete(prefix, 3)),
+                    "prefix '" + prefix + "' at step " + step);
+        }
+    }
+
+    private static List<Long> bruteForce(Collection<CompanySummary> companies, String prefix, int limit) {
+        return companies.stream()
+                .filter(company -> {
+                    String name = CompanyNameTrie.normalize(company.name());
+                    return name.startsWith(prefix) || name.contains(" " + prefix);
+                })
+                .sorted(Comparator.comparing(CompanySummary::averageRating, Comparator.reverseOrder())
+                        .thenComparing(CompanySummary::id))
+                .limit(limit)
+                .map(CompanySummary::id)
+                .toList();
+    }
+
+    private static CompanySummary summary(Long id, String name, double rating) {
+        return new CompanySummary(id, name, "IT", "Pune", rating);
+    }
+
+    private static List<Long> ids(List<CompanySummary> summaries) {
+        return summaries.stream().map(CompanySummary::id).toList();
+    }
+}
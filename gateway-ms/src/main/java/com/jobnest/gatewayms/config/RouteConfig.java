@@ -57,6 +57,12 @@ public class RouteConfig {
                         .filters(f -> f.filter(authHeaderFilter.apply(new AuthHeaderFilter.Config())))
                         .uri("lb://reviews-service"))
 
+                // GraphQL-Service, read-only queries so no auth filter
+                .route("GraphQL-Service", predicateSpec -> predicateSpec
+                        .path("/graphql")
+                        .and().method(HttpMethod.POST)
+                        .uri("lb://graphql-service"))
+
                 // Auth-Service
                 .route("AUTH-MS", predicateSpec -> predicateSpec
                         .path("/auth/***")
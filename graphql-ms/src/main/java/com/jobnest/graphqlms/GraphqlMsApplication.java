@@ -0,0 +1,17 @@
+package com.jobnest.graphqlms;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.netflix.eureka.EnableEurekaClient;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+
+@SpringBootApplication
+@EnableEurekaClient
+@EnableFeignClients
+public class GraphqlMsApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(GraphqlMsApplication.class, args);
+	}
+
+}
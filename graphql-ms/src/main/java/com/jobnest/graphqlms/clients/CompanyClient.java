@@ -0,0 +1,19 @@
+package com.jobnest.graphqlms.clients;
+
+import com.jobnest.graphqlms.dto.CompanyDto;
+import com.jobnest.graphqlms.helper.ApiResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+import java.util.Set;
+
+@FeignClient(name = "COMPANY-SERVICE")
+public interface CompanyClient {
+
+    // Full companies, at most 100 ids per call
+    @PostMapping("/api/companies/batch")
+    ResponseEntity<ApiResponse<List<CompanyDto>>> getCompaniesByIds(@RequestBody Set<Long> ids);
+}
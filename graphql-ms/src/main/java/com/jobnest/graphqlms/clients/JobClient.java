@@ -0,0 +1,22 @@
+package com.jobnest.graphqlms.clients;
+
+import com.jobnest.graphqlms.dto.JobDto;
+import com.jobnest.graphqlms.helper.ApiResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+import java.util.Set;
+
+@FeignClient(name = "JOB-SERVICE")
+public interface JobClient {
+
+    @GetMapping("/api/jobs/companies")
+    ResponseEntity<ApiResponse<List<JobDto>>> getJobsByCompIds(@RequestParam("companyIds") Set<Long> companyIds);
+
+    @GetMapping("/api/jobs/{id}")
+    ResponseEntity<ApiResponse<JobDto>> getJobById(@PathVariable Long id);
+}
@@ -0,0 +1,19 @@
+package com.jobnest.graphqlms.clients;
+
+import com.jobnest.graphqlms.dto.ReviewDto;
+import com.jobnest.graphqlms.helper.ApiResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+import java.util.Set;
+
+@FeignClient(name = "REVIEWS-SERVICE")
+public interface ReviewClient {
+
+    @GetMapping("/api/reviews/companies")
+    ResponseEntity<ApiResponse<List<ReviewDto>>> getReviewsByCompIds(
+            @RequestParam("companyIds") Set<Long> companyIds, @RequestParam("perCompany") int perCompany);
+}
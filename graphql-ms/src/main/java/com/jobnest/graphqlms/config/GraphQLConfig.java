@@ -0,0 +1,66 @@
+package com.jobnest.graphqlms.config;
+
+import com.jobnest.graphqlms.resolvers.GraphQLDataFetchers;
+import graphql.GraphQL;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+@Configuration
+public class GraphQLConfig {
+
+    @Bean
+    public GraphQL graphQL(
+            @Value("classpath:graphql/schema.graphqls") Resource schemaFile,
+            GraphQLDataFetchers dataFetchers) throws IOException {
+
+        TypeDefinitionRegistry typeRegistry;
+        try (InputStreamReader reader = new InputStreamReader(schemaFile.getInputStream(), StandardCharsets.UTF_8)) {
+            typeRegistry = new SchemaParser().parse(reader);
+        }
+
+        RuntimeWiring wiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", builder -> builder
+                        .dataFetcher("company", dataFetchers.companyById())
+                        .dataFetcher("companies", dataFetchers.companiesByIds())
+                        .dataFetcher("job", dataFetchers.jobById()))
+                .type("Company", builder -> builder
+                        .dataFetcher("jobs", dataFetchers.companyJobs())
+                        .dataFetcher("reviews", dataFetchers.companyReviews()))
+                .type("Job", builder -> builder
+                        .dataFetcher("company", dataFetchers.jobCompany()))
+                .type("Review", builder -> builder
+                        .dataFetcher("company", dataFetchers.reviewCompany()))
+                .build();
+
+        GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(typeRegistry, wiring);
+        return GraphQL.newGraphQL(schema)
+                .instrumentation(new DataLoaderDispatcherInstrumentation())
+                .build();
+    }
+
+    // Batch loads run here so one slow downstream service does not block the others
+    @Bean
+    public ThreadPoolTaskExecutor dataLoaderExecutor(
+            @Value("${graphql.loader.pool-size:16}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 16);
+        executor.setThreadNamePrefix("dataloader-");
+        executor.initialize();
+        return executor;
+    }
+}
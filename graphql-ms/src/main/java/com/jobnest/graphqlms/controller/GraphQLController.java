@@ -0,0 +1,46 @@
+package com.jobnest.graphqlms.controller;
+
+import com.jobnest.graphqlms.loaders.DataLoaderRegistryFactory;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+public class GraphQLController {
+
+    private static final Logger log = LoggerFactory.getLogger(GraphQLController.class);
+    private final GraphQL graphQL;
+    private final DataLoaderRegistryFactory registryFactory;
+
+    // Constructor
+    public GraphQLController(GraphQL graphQL, DataLoaderRegistryFactory registryFactory) {
+        this.graphQL = graphQL;
+        this.registryFactory = registryFactory;
+    }
+
+    @PostMapping("/graphql")
+    public ResponseEntity<Map<String, Object>> execute(@RequestBody GraphQLRequest request) {
+        log.info("*** Received GraphQL request, operation: {} ***", request.operationName());
+
+        ExecutionInput executionInput = ExecutionInput.newExecutionInput()
+                .query(request.query())
+                .operationName(request.operationName())
+                .variables(request.variables() == null ? Map.of() : request.variables())
+                .dataLoaderRegistry(registryFactory.newRegistry())
+                .build();
+
+        ExecutionResult result = graphQL.execute(executionInput);
+        return ResponseEntity.ok(result.toSpecification());
+    }
+
+    public record GraphQLRequest(String query, String operationName, Map<String, Object> variables) {
+    }
+}
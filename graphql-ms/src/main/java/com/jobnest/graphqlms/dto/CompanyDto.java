@@ -0,0 +1,19 @@
+package com.jobnest.graphqlms.dto;
+
+import lombok.Data;
+
+@Data
+public class CompanyDto {
+
+    private Long id;
+
+    private String name;
+
+    private String description;
+
+    private String industry;
+
+    private String location;
+
+    private Double averageRating;
+}
@@ -0,0 +1,21 @@
+package com.jobnest.graphqlms.dto;
+
+import lombok.Data;
+
+@Data
+public class JobDto {
+
+    private Long id;
+
+    private String title;
+
+    private String description;
+
+    private String location;
+
+    private String skills;
+
+    private String postedAt;
+
+    private Long companyId;
+}
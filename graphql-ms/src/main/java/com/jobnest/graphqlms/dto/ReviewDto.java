@@ -0,0 +1,17 @@
+package com.jobnest.graphqlms.dto;
+
+import lombok.Data;
+
+@Data
+public class ReviewDto {
+
+    private Long id;
+
+    private String description;
+
+    private double rating;
+
+    private String postedAt;
+
+    private Long companyId;
+}
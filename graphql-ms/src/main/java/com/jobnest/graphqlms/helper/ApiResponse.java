@@ -0,0 +1,29 @@
+package com.jobnest.graphqlms.helper;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class ApiResponse<T> {
+
+    private String message;
+    private Boolean success;
+    private HttpStatus status;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime timeStamp;
+
+    private T data;
+    private String requestId;
+
+    public ApiResponse() {
+        this.timeStamp = LocalDateTime.now();
+    }
+}
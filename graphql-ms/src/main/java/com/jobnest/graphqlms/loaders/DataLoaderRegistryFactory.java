@@ -0,0 +1,102 @@
+package com.jobnest.graphqlms.loaders;
+
+import com.jobnest.graphqlms.clients.CompanyClient;
+import com.jobnest.graphqlms.clients.JobClient;
+import com.jobnest.graphqlms.clients.ReviewClient;
+import com.jobnest.graphqlms.dto.CompanyDto;
+import com.jobnest.graphqlms.dto.JobDto;
+import com.jobnest.graphqlms.dto.ReviewDto;
+import com.jobnest.graphqlms.helper.ApiResponse;
+import org.dataloader.DataLoaderFactory;
+import org.dataloader.DataLoaderOptions;
+import org.dataloader.DataLoaderRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Builds a fresh set of DataLoaders for every GraphQL request, so keys requested at
+// the same query level are collapsed into one batch call per downstream service
+@Component
+public class DataLoaderRegistryFactory {
+
+    public static final String COMPANY_LOADER = "companies";
+    public static final String JOBS_BY_COMPANY_LOADER = "jobsByCompany";
+    public static final String REVIEWS_BY_COMPANY_LOADER = "reviewsByCompany";
+
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final Logger log = LoggerFactory.getLogger(DataLoaderRegistryFactory.class);
+    private final CompanyClient companyClient;
+    private final JobClient jobClient;
+    private final ReviewClient reviewClient;
+    private final Executor executor;
+    private final int reviewsPerCompany;
+
+    // Constructor Injection
+    public DataLoaderRegistryFactory(
+            CompanyClient companyClient,
+            JobClient jobClient,
+            ReviewClient reviewClient,
+            @Qualifier("dataLoaderExecutor") Executor executor,
+            @Value("${graphql.loader.reviews-per-company:20}") int reviewsPerCompany) {
+        this.companyClient = companyClient;
+        this.jobClient = jobClient;
+        this.reviewClient = reviewClient;
+        this.executor = executor;
+        this.reviewsPerCompany = reviewsPerCompany;
+    }
+
+    public DataLoaderRegistry newRegistry() {
+        DataLoaderRegistry registry = new DataLoaderRegistry();
+        // The batch endpoints accept at most MAX_BATCH_SIZE ids, larger batches are split
+        DataLoaderOptions options = DataLoaderOptions.newOptions().setMaxBatchSize(MAX_BATCH_SIZE);
+        registry.register(COMPANY_LOADER, DataLoaderFactory.newDataLoader(this::loadCompanies, options));
+        registry.register(JOBS_BY_COMPANY_LOADER, DataLoaderFactory.newDataLoader(this::loadJobsByCompany, options));
+        registry.register(REVIEWS_BY_COMPANY_LOADER, DataLoaderFactory.newDataLoader(this::loadReviewsByCompany, options));
+        return registry;
+    }
+
+    private CompletionStage<List<CompanyDto>> loadCompanies(List<Long> ids) {
+        return CompletableFuture.supplyAsync(() -> {
+            log.info("Batch call to COMPANY-SERVICE for {} companies", ids.size());
+            Map<Long, CompanyDto> companiesById = dataOf(companyClient.getCompaniesByIds(new HashSet<>(ids)))
+                    .stream()
+                    .collect(Collectors.toMap(CompanyDto::getId, Function.identity()));
+            return ids.stream().map(companiesById::get).toList();
+        }, executor);
+    }
+
+    private CompletionStage<List<List<JobDto>>> loadJobsByCompany(List<Long> companyIds) {
+        return CompletableFuture.supplyAsync(() -> {
+            log.info("Batch call to JOB-SERVICE for jobs of {} companies", companyIds.size());
+            Map<Long, List<JobDto>> jobsByCompany = dataOf(jobClient.getJobsByCompIds(new HashSet<>(companyIds)))
+                    .stream()
+                    .collect(Collectors.groupingBy(JobDto::getCompanyId));
+            return companyIds.stream().map(id -> jobsByCompany.getOrDefault(id, List.of())).toList();
+        }, executor);
+    }
+
+    private CompletionStage<List<List<ReviewDto>>> loadReviewsByCompany(List<Long> companyIds) {
+        return CompletableFuture.supplyAsync(() -> {
+            log.info("Batch call to REVIEWS-SERVICE for reviews of {} companies", companyIds.size());
+            Map<Long, List<ReviewDto>> reviewsByCompany = dataOf(reviewClient.getReviewsByCompIds(new HashSet<>(companyIds), reviewsPerCompany))
+                    .stream()
+                    .collect(Collectors.groupingBy(ReviewDto::getCompanyId));
+            return companyIds.stream().map(id -> reviewsByCompany.getOrDefault(id, List.of())).toList();
+        }, executor);
+    }
+
+    private static <T> List<T> dataOf(ResponseEntity<ApiResponse<List<T>>> responseEntity) {
+        ApiResponse<List<T>> body = responseEntity.getBody();
+        return body == null || body.getData() == null ? List.of() : body.getData();
+    }
+}
@@ -0,0 +1,91 @@
+package com.jobnest.graphqlms.resolvers;
+
+import com.jobnest.graphqlms.clients.JobClient;
+import com.jobnest.graphqlms.dto.CompanyDto;
+import com.jobnest.graphqlms.dto.JobDto;
+import com.jobnest.graphqlms.dto.ReviewDto;
+import com.jobnest.graphqlms.helper.ApiResponse;
+import feign.FeignException;
+import graphql.schema.DataFetcher;
+import org.dataloader.DataLoader;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.jobnest.graphqlms.loaders.DataLoaderRegistryFactory.*;
+
+// Field resolvers never call downstream services directly for nested fields,
+// they only enqueue keys on the request scoped DataLoaders
+@Component
+public class GraphQLDataFetchers {
+
+    private final JobClient jobClient;
+
+    // Constructor Injection
+    public GraphQLDataFetchers(JobClient jobClient) {
+        this.jobClient = jobClient;
+    }
+
+    public DataFetcher<CompletableFuture<CompanyDto>> companyById() {
+        return env -> {
+            DataLoader<Long, CompanyDto> loader = env.getDataLoader(COMPANY_LOADER);
+            return loader.load(Long.valueOf(env.<String>getArgument("id")));
+        };
+    }
+
+    public DataFetcher<CompletableFuture<List<CompanyDto>>> companiesByIds() {
+        return env -> {
+            DataLoader<Long, CompanyDto> loader = env.getDataLoader(COMPANY_LOADER);
+            List<Long> ids = env.<List<String>>getArgument("ids").stream().map(Long::valueOf).toList();
+            return loader.loadMany(ids);
+        };
+    }
+
+    public DataFetcher<JobDto> jobById() {
+        return env -> {
+            try {
+                ResponseEntity<ApiResponse<JobDto>> responseEntity =
+                        jobClient.getJobById(Long.valueOf(env.<String>getArgument("id")));
+                return responseEntity.getBody() == null ? null : responseEntity.getBody().getData();
+            } catch (FeignException.NotFound ex) {
+                return null;
+            }
+        };
+    }
+
+    public DataFetcher<CompletableFuture<List<JobDto>>> companyJobs() {
+        return env -> {
+            CompanyDto company = env.getSource();
+            DataLoader<Long, List<JobDto>> loader = env.getDataLoader(JOBS_BY_COMPANY_LOADER);
+            return loader.load(company.getId());
+        };
+    }
+
+    public DataFetcher<CompletableFuture<List<ReviewDto>>> companyReviews() {
+        return env -> {
+            CompanyDto company = env.getSource();
+            DataLoader<Long, List<ReviewDto>> loader = env.getDataLoader(REVIEWS_BY_COMPANY_LOADER);
+            return loader.load(company.getId());
+        };
+    }
+
+    public DataFetcher<CompletableFuture<CompanyDto>> jobCompany() {
+        return env -> {
+            JobDto job = env.getSource();
+            return loadCompany(env.getDataLoader(COMPANY_LOADER), job.getCompanyId());
+        };
+    }
+
+    public DataFetcher<CompletableFuture<CompanyDto>> reviewCompany() {
+        return env -> {
+            ReviewDto review = env.getSource();
+            return loadCompany(env.getDataLoader(COMPANY_LOADER), review.getCompanyId());
+        };
+    }
+
+    private CompletableFuture<CompanyDto> loadCompany(DataLoader<Long, CompanyDto> loader, Long companyId) {
+        return companyId == null ? CompletableFuture.completedFuture(null) : loader.load(companyId);
+    }
+}
@@ -0,0 +1,13 @@
+package com.jobnest.graphqlms;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class GraphqlMsApplicationTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
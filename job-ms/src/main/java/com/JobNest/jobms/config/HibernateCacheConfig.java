@@ -0,0 +1,53 @@
+package com.JobNest.jobms.config;
+
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+
+// Ehcache regions for the cached Job entity and the per-company job lookup.
+// Hibernate fails on regions missing here (missing_cache_strategy=fail).
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String JOB_REGION = "job";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${jobs.hibernate-cache.entity-max-entries:10000}") long entityMaxEntries,
+            @Value("${jobs.hibernate-cache.query-max-entries:1000}") long queryMaxEntries,
+            @Value("${jobs.hibernate-cache.ttl:5m}") Duration ttl) {
+        CachingProvider cachingProvider = Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        CacheManager cacheManager = cachingProvider.getCacheManager(cachingProvider.getDefaultURI(), getClass().getClassLoader());
+
+        cacheManager.createCache(JOB_REGION, regionConfig(entityMaxEntries, ttl));
+        // findByCompanyId is the only cached query, it uses the default results region
+        cacheManager.createCache("default-query-results-region", regionConfig(queryMaxEntries, ttl));
+        // Never expired, it has to outlive the cached results it invalidates
+        cacheManager.createCache("default-update-timestamps-region", Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(1000))));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static javax.cache.configuration.Configuration<Object, Object> regionConfig(long maxEntries, Duration ttl) {
+        return Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                        .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(ttl)));
+    }
+}
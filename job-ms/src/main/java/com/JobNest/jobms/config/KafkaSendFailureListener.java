@@ -0,0 +1,33 @@
+package com.JobNest.jobms.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.support.ProducerListener;
+import org.springframework.stereotype.Component;
+
+// Called by KafkaTemplate for every failed send of this service, after the producer's own retries.
+// Replaces Boot's LoggingProducerListener and counts failures in kafka.producer.send.failures{topic}.
+@Component
+public class KafkaSendFailureListener implements ProducerListener<Object, Object> {
+
+    private static final Logger log = LoggerFactory.getLogger(KafkaSendFailureListener.class);
+    private final MeterRegistry meterRegistry;
+
+    // Constructor Injection
+    public KafkaSendFailureListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onError(ProducerRecord<Object, Object> record, RecordMetadata recordMetadata, Exception exception) {
+        Counter.builder("kafka.producer.send.failures")
+                .tag("topic", record.topic())
+                .register(meterRegistry)
+                .increment();
+        log.error("Failed to send Topic='{}' with key='{}'", record.topic(), record.key(), exception);
+    }
+}
@@ -0,0 +1,19 @@
+package com.JobNest.jobms.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    // Created before the first job event, so the topic does not fall back to the broker's single partition
+    @Bean
+    public NewTopic jobChangedTopic(
+            @Value("${jobs.kafka.topic.partitions:3}") int partitions,
+            @Value("${jobs.kafka.topic.replicas:1}") int replicas) {
+        return TopicBuilder.name("job-changed-topic").partitions(partitions).replicas(replicas).build();
+    }
+}
@@ -9,12 +9,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+@Validated
 @RestController
 @RequestMapping("/api/jobs")
 public class JobController {
@@ -85,6 +91,35 @@ public class JobController {
         return new ResponseEntity<>(response, httpStatus);
     }
 
+    // Count only, for callers that do not render the jobs themselves
+    @GetMapping("/company/{companyId}/count")
+    public ResponseEntity<ApiResponse<Long>> countJobsByCompId(@PathVariable Long companyId) {
+        log.info("GET request received to count jobs of company ID: {}", companyId);
+        long jobCount = jobService.countJobsByCompId(companyId);
+
+        success = true;
+        message = "Job count fetched successfully";
+        httpStatus = HttpStatus.OK;
+
+        ApiResponse<Long> response = responseBuilder.buildResponseWithCount(jobCount, success, message, httpStatus);
+        return new ResponseEntity<>(response, httpStatus);
+    }
+
+    // Batch variant used by aggregating callers, always answers 200 with a possibly empty list
+    @GetMapping("/companies")
+    public ResponseEntity<ApiResponse<List<JobDto>>> getJobsByCompIds(
+            @RequestParam("companyIds") @Size(min = 1, max = 100) Set<Long> companyIds) {
+        log.info("GET request received to fetch jobs for {} companies", companyIds.size());
+        List<JobDto> jobDtos = jobService.findJobsByCompIds(companyIds);
+
+        success = true;
+        message = "Jobs fetched successfully";
+        httpStatus = HttpStatus.OK;
+
+        ApiResponse<List<JobDto>> response = responseBuilder.buildResponseWithData(jobDtos, success, message, httpStatus);
+        return new ResponseEntity<>(response, httpStatus);
+    }
+
     @RequestMapping(value = "/{id}", method = RequestMethod.GET)
     public ResponseEntity<?> getJobById(@Valid @PathVariable Long id) {
         log.info("*** Received GET request to fetch job with ID: {}", id);
@@ -147,4 +182,19 @@ public class JobController {
         ApiResponse<List<JobDto>> response = responseBuilder.buildResponseWithData(jobDtos, success, message, httpStatus);
         return new ResponseEntity<>(response, httpStatus);
     }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<JobDto>>> searchJobsNearby(
+            @RequestParam("location") String location,
+            @RequestParam(value = "radiusKm", defaultValue = "25") @Positive @DecimalMax("500") double radiusKm) {
+        log.info("GET request received to search jobs within {} km of {}", radiusKm, location);
+        List<JobDto> jobDtos = jobService.findJobsNearLocation(location, radiusKm);
+
+        success = !jobDtos.isEmpty();
+        message = success ? "Jobs fetched successfully" : "No jobs found within " + radiusKm + " km of " + location;
+        httpStatus = success ? HttpStatus.OK : HttpStatus.NOT_FOUND;
+
+        ApiResponse<List<JobDto>> response = responseBuilder.buildResponseWithData(jobDtos, success, message, httpStatus);
+        return new ResponseEntity<>(response, httpStatus);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.JobNest.jobms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Confirms to Company-Service that the jobs of a deleted company are removed
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompanyDeletionAck {
+    private Long companyId;
+    private String service;
+}
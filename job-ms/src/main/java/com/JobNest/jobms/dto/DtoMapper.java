@@ -17,6 +17,7 @@ public class DtoMapper {
         jobDTo.setPostedAt(job.getPostedAt());
 
         jobDTo.setCompanyUrl(companyUrl);
+        jobDTo.setCompanyId(job.getCompanyId());
 
         return jobDTo;
     }
@@ -31,6 +32,7 @@ public class DtoMapper {
         jobDTo.setLocation(job.getLocation());
         jobDTo.setSkills(job.getSkills());
         jobDTo.setPostedAt(job.getPostedAt());
+        jobDTo.setCompanyId(job.getCompanyId());
 
         return jobDTo;
     }
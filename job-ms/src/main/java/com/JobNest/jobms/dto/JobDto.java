@@ -20,6 +20,12 @@ public class JobDto {
 
     private String companyUrl;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long companyId;
+
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private String companyName;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distanceKm;
 }
\ No newline at end of file
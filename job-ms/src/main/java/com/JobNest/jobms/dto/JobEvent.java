@@ -0,0 +1,31 @@
+package com.JobNest.jobms.dto;
+
+import com.JobNest.jobms.entities.Job;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Job change published to Company-Service. Carries the job snapshot so the company
+// profile can be projected without calling back. A null jobId with deleted=true
+// removes all jobs of the company.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobEvent {
+    private Long companyId;
+    private Long jobId;
+    private boolean deleted;
+    private String title;
+    private String location;
+    private String postedAt;
+
+    public static JobEvent saved(Job job) {
+        return new JobEvent(job.getCompanyId(), job.getId(), false, job.getTitle(), job.getLocation(), job.getPostedAt());
+    }
+
+    public static JobEvent deleted(Long companyId, Long jobId) {
+        return new JobEvent(companyId, jobId, true, null, null, null);
+    }
+}
@@ -1,9 +1,13 @@
 package com.JobNest.jobms.entities;
 
+import com.JobNest.jobms.config.HibernateCacheConfig;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
@@ -27,6 +31,8 @@ import javax.validation.constraints.Size;
 @NoArgsConstructor
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.JOB_REGION)
 @Table(name = "job_tb")
 public class Job {
 
@@ -54,5 +60,16 @@ public class Job {
     @JsonFormat(pattern = "MM-dd-yyyy")
     private String postedAt;
 
+    // Resolved from location against the gazetteer at write time
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Double latitude;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Double longitude;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(length = 12)
+    private String geoHash;
+
     // add feild applyJob Url
 }
\ No newline at end of file
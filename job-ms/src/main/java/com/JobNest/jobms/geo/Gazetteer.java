@@ -0,0 +1,82 @@
+package com.JobNest.jobms.geo;
+
+import com.JobNest.jobms.exceptions.ApplicationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+// Offline place-name lookup backed by a CSV bundled with the service
+@Component
+public class Gazetteer {
+
+    private static final Logger log = LoggerFactory.getLogger(Gazetteer.class);
+    private final Resource gazetteerFile;
+    private final Map<String, GeoPoint> places = new HashMap<>();
+
+    public Gazetteer(@Value("${jobs.geo.gazetteer:classpath:geo/gazetteer.csv}") Resource gazetteerFile) {
+        this.gazetteerFile = gazetteerFile;
+    }
+
+    @PostConstruct
+    void load() {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(gazetteerFile.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split(",", -1);
+                GeoPoint point = new GeoPoint(Double.parseDouble(columns[1]), Double.parseDouble(columns[2]));
+                places.put(normalize(columns[0]), point);
+                if (columns.length > 3) {
+                    for (String alias : columns[3].split(";")) {
+                        if (!alias.isBlank()) {
+                            places.put(normalize(alias), point);
+                        }
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException ex) {
+            throw new ApplicationException("Unable to load gazetteer: " + ex.getMessage());
+        }
+        log.info("Gazetteer loaded with {} place names", places.size());
+    }
+
+    // Resolves free-text locations like "Pune", "Pune, Maharashtra" or "Remote - Bangalore"
+    public Optional<GeoPoint> resolve(String location) {
+        if (location == null || location.isBlank()) {
+            return Optional.empty();
+        }
+        String normalized = normalize(location);
+        GeoPoint point = places.get(normalized);
+        if (point != null) {
+            return Optional.of(point);
+        }
+        for (String part : normalized.split("[,/()\\-]")) {
+            point = places.get(part.trim());
+            if (point != null) {
+                return Optional.of(point);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String normalize(String name) {
+        String ascii = Normalizer.normalize(name, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return ascii.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,100 @@
+package com.JobNest.jobms.geo;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public final class GeoHash {
+
+    public static final int MAX_PRECISION = 9;
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private GeoHash() {
+    }
+
+    public static String encode(GeoPoint point, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (point.longitude() >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (point.latitude() >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    // Cell height/width in degrees for a given precision: {latDegrees, lonDegrees}
+    public static double[] cellSize(int precision) {
+        int bits = precision * 5;
+        int lonBits = (bits + 1) / 2;
+        int latBits = bits / 2;
+        return new double[]{180.0 / (1L << latBits), 360.0 / (1L << lonBits)};
+    }
+
+    // Finest precision whose cells are at least radiusKm tall and wide, so the
+    // 3x3 block around the centre cell always contains the whole search circle
+    public static int precisionForRadius(double radiusKm, double latitude) {
+        double latExtent = Math.min(89.9, Math.abs(latitude) + radiusKm / KM_PER_DEGREE);
+        double cosLat = Math.cos(Math.toRadians(latExtent));
+
+        for (int precision = MAX_PRECISION; precision > 1; precision--) {
+            double[] size = cellSize(precision);
+            double heightKm = size[0] * KM_PER_DEGREE;
+            double widthKm = size[1] * KM_PER_DEGREE * cosLat;
+            if (heightKm >= radiusKm && widthKm >= radiusKm) {
+                return precision;
+            }
+        }
+        return 1;
+    }
+
+    // Centre cell plus its eight neighbours at the given precision
+    public static Set<String> coveringCells(GeoPoint center, int precision) {
+        double[] size = cellSize(precision);
+        Set<String> cells = new LinkedHashSet<>();
+
+        for (int dLat = -1; dLat <= 1; dLat++) {
+            double lat = center.latitude() + dLat * size[0];
+            if (lat < -90 || lat > 90) {
+                continue;
+            }
+            for (int dLon = -1; dLon <= 1; dLon++) {
+                double lon = center.longitude() + dLon * size[1];
+                if (lon < -180) {
+                    lon += 360;
+                } else if (lon >= 180) {
+                    lon -= 360;
+                }
+                cells.add(encode(new GeoPoint(lat, lon), precision));
+            }
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,87 @@
+package com.JobNest.jobms.geo;
+
+import com.JobNest.jobms.repository.JobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// In-memory geohash index of job locations. Cells are kept in a sorted map so a
+// geohash prefix maps to one contiguous key range, and a radius query only walks
+// the few cells covering the search circle instead of every job.
+@Component
+public class JobGeoIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(JobGeoIndex.class);
+    private final ConcurrentSkipListMap<String, Map<Long, GeoPoint>> cells = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, String> jobCells = new ConcurrentHashMap<>();
+    private final JobRepository jobRepo;
+
+    public JobGeoIndex(JobRepository jobRepo) {
+        this.jobRepo = jobRepo;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        List<JobLocation> locations = jobRepo.findAllJobLocations();
+        locations.forEach(location ->
+                put(location.id(), new GeoPoint(location.latitude(), location.longitude())));
+        log.info("Geo index seeded with {} jobs", jobCells.size());
+    }
+
+    // Index changes follow committed job writes only
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobLocationChanged(JobLocationChanged event) {
+        if (event.point() == null) {
+            remove(event.jobId());
+        } else {
+            put(event.jobId(), event.point());
+        }
+    }
+
+    public synchronized void put(Long jobId, GeoPoint point) {
+        remove(jobId);
+        String geoHash = GeoHash.encode(point, GeoHash.MAX_PRECISION);
+        cells.computeIfAbsent(geoHash, key -> new ConcurrentHashMap<>()).put(jobId, point);
+        jobCells.put(jobId, geoHash);
+    }
+
+    public synchronized void remove(Long jobId) {
+        String geoHash = jobCells.remove(jobId);
+        if (geoHash == null) {
+            return;
+        }
+        Map<Long, GeoPoint> cell = cells.get(geoHash);
+        if (cell != null) {
+            cell.remove(jobId);
+            if (cell.isEmpty()) {
+                cells.remove(geoHash);
+            }
+        }
+    }
+
+    // Returns job ids within radiusKm of center, nearest first, with their distances
+    public List<Map.Entry<Long, Double>> findWithinRadius(GeoPoint center, double radiusKm) {
+        int precision = GeoHash.precisionForRadius(radiusKm, center.latitude());
+        List<Map.Entry<Long, Double>> matches = new ArrayList<>();
+
+        for (String prefix : GeoHash.coveringCells(center, precision)) {
+            for (Map<Long, GeoPoint> cell : cells.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+                cell.forEach((jobId, point) -> {
+                    double distance = center.distanceKm(point);
+                    if (distance <= radiusKm) {
+                        matches.add(Map.entry(jobId, distance));
+                    }
+                });
+            }
+        }
+        matches.sort(Map.Entry.comparingByValue());
+        return matches;
+    }
+}
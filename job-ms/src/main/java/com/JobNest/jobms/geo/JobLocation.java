@@ -0,0 +1,5 @@
+package com.JobNest.jobms.geo;
+
+// Projection used to seed the geo index without loading whole Job entities
+public record JobLocation(Long id, Double latitude, Double longitude) {
+}
@@ -0,0 +1,6 @@
+package com.JobNest.jobms.geo;
+
+// Published inside the job transaction, JobGeoIndex applies it after commit.
+// A null point removes the job from the index.
+public record JobLocationChanged(Long jobId, GeoPoint point) {
+}
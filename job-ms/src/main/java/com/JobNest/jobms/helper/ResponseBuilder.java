@@ -24,6 +24,19 @@ public class ResponseBuilder {
                 .build();
     }
 
+    public ApiResponse<Long> buildResponseWithCount(
+            Long count, boolean success, String message, HttpStatus status) {
+
+        return ApiResponse.<Long>builder()
+                .data(count)
+                .success(success)
+                .message(message)
+                .status(status)
+                .timeStamp(LocalDateTime.now())
+                .requestId(UUID.randomUUID().toString())
+                .build();
+    }
+
     public ApiResponse<String> buildResponseWithoutData(
             boolean success, String message, HttpStatus status) {
 
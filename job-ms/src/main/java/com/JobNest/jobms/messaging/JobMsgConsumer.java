@@ -0,0 +1,30 @@
+package com.JobNest.jobms.messaging;
+
+import com.JobNest.jobms.service.JobService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+@Service
+public class JobMsgConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(JobMsgConsumer.class);
+    private final JobService jobService;
+    private final JobMsgProducer msgProducer;
+
+    // Constructor
+    public JobMsgConsumer(JobService jobService, JobMsgProducer msgProducer) {
+        this.jobService = jobService;
+        this.msgProducer = msgProducer;
+    }
+
+    // Delete command of the company deletion saga, acknowledged also when there were no jobs
+    @KafkaListener(topics = "company-deleted-topic", groupId = "job-service")
+    public void consumeMessage(Long companyId) {
+        log.info("*** Message received ***");
+        jobService.deleteJobByCompId(companyId);
+        msgProducer.publishDeletionAck(companyId);
+        log.info("*** Message consumed ***");
+    }
+}
@@ -0,0 +1,54 @@
+package com.JobNest.jobms.messaging;
+
+import com.JobNest.jobms.dto.CompanyDeletionAck;
+import com.JobNest.jobms.dto.JobEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ExecutionException;
+
+@Service
+public class JobMsgProducer {
+    private static final Logger log = LoggerFactory.getLogger(JobMsgProducer.class);
+    private final String TOPIC = "job-changed-topic";
+    private final String ACK_TOPIC = "company-deletion-ack-topic";
+
+    @Autowired
+    private KafkaTemplate<String, JobEvent> kafkaTemplate;
+
+    @Autowired
+    private KafkaTemplate<String, CompanyDeletionAck> ackKafkaTemplate;
+
+    // JobServiceImpl publishes JobEvent as an application event, it is sent only after the job
+    // transaction committed, so Company-Service never reloads pre-commit data or sees rolled back changes
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobEvent jobEvent) {
+        publishMessage(jobEvent);
+    }
+
+    // Publish message to Kafka topic, to be consumed in Company-Service
+    public void publishMessage(JobEvent jobEvent) {
+        log.info("Sending Topic='{}' with Payload='{}' ", TOPIC, jobEvent.getJobId());
+        kafkaTemplate.send(TOPIC, String.valueOf(jobEvent.getCompanyId()), jobEvent);
+        log.info("Topic sent to consumer");
+    }
+
+    // Waits for the broker, a failed ack fails the listener and the delete command is redelivered
+    public void publishDeletionAck(Long companyId) {
+        log.info("Sending Topic='{}' with Payload='{}' ", ACK_TOPIC, companyId);
+        try {
+            ackKafkaTemplate.send(ACK_TOPIC, String.valueOf(companyId), new CompanyDeletionAck(companyId, "job-service")).get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Interrupted while sending deletion ack for company ID: " + companyId, ex);
+        } catch (ExecutionException ex) {
+            throw new KafkaException("Deletion ack for company ID: " + companyId + " not sent", ex.getCause());
+        }
+        log.info("Topic sent to consumer");
+    }
+}
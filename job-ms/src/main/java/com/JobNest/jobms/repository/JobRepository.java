@@ -1,20 +1,28 @@
 package com.JobNest.jobms.repository;
 
 import com.JobNest.jobms.entities.Job;
+import com.JobNest.jobms.geo.JobLocation;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
 
     // custom jpa methods
+    // Invalidated by Hibernate on every write to job_tb, including the bulk delete below
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
     List<Job> findByCompanyId(Long companyId);
 
+    List<Job> findByCompanyIdIn(Collection<Long> companyIds);
+
     // custom named-query methods
     @Query(name = "Job.findJobByAdvSearch")
     List<Job> fetchJobByAdvSearch(@Param("title") String title, @Param("location") String location);
@@ -22,6 +30,15 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     @Query(name = "Job.findByKeyword")
     List<Job> findJobByKeyword(@Param("keyword") String keyword);
 
+    long countByCompanyId(Long companyId);
+
+    @Query("SELECT j.id FROM Job j WHERE j.companyId = :companyId")
+    List<Long> findIdsByCompanyId(@Param("companyId") Long companyId);
+
+    @Query("SELECT new com.JobNest.jobms.geo.JobLocation(j.id, j.latitude, j.longitude) " +
+            "FROM Job j WHERE j.latitude IS NOT NULL AND j.longitude IS NOT NULL")
+    List<JobLocation> findAllJobLocations();
+
     @Modifying
     @Query("DELETE FROM Job j WHERE j.companyId = :companyId")
     int deleteByCompanyId(@Param("companyId") Long companyId);
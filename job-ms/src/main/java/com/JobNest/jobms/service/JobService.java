@@ -4,6 +4,7 @@ import com.JobNest.jobms.dto.JobDto;
 import com.JobNest.jobms.entities.Job;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -18,6 +19,10 @@ public interface JobService {
 
     List<JobDto> findJobsByCompId(Long companyId);
 
+    long countJobsByCompId(Long companyId);
+
+    List<JobDto> findJobsByCompIds(Collection<Long> companyIds);
+
     JobDto getJobById(Long id);
 
     boolean deleteJobById(Long id);
@@ -28,4 +33,6 @@ public interface JobService {
     List<JobDto> getJobByKeyword(String keyword);
 
     List<JobDto> searchJobs(Map<String, String> searchCriteria);
+
+    List<JobDto> findJobsNearLocation(String location, double radiusKm);
 }
\ No newline at end of file
@@ -2,13 +2,21 @@ package com.JobNest.jobms.serviceImpl;
 
 import com.JobNest.jobms.dto.DtoMapper;
 import com.JobNest.jobms.dto.JobDto;
+import com.JobNest.jobms.dto.JobEvent;
 import com.JobNest.jobms.entities.Job;
 import com.JobNest.jobms.exceptions.ApplicationException;
+import com.JobNest.jobms.exceptions.ResourceNotFoundException;
+import com.JobNest.jobms.geo.Gazetteer;
+import com.JobNest.jobms.geo.GeoHash;
+import com.JobNest.jobms.geo.GeoPoint;
+import com.JobNest.jobms.geo.JobGeoIndex;
+import com.JobNest.jobms.geo.JobLocationChanged;
 import com.JobNest.jobms.repository.JobRepository;
 import com.JobNest.jobms.service.JobService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
@@ -24,15 +32,22 @@ public class JobServiceImpl implements JobService {
     private static final Logger log = LoggerFactory.getLogger(JobServiceImpl.class);
     private final JobRepository jobRepo;
     private final DtoMapper dtoMapper;
+    private final Gazetteer gazetteer;
+    private final JobGeoIndex geoIndex;
+    private final ApplicationEventPublisher eventPublisher;
     private final int attempt = 0;
     @Autowired
     private RestTemplate restTemplate;
 
     // Constructor Injection
     public JobServiceImpl(
-            JobRepository jobRepo, DtoMapper dtoMapper) {
+            JobRepository jobRepo, DtoMapper dtoMapper, Gazetteer gazetteer, JobGeoIndex geoIndex,
+            ApplicationEventPublisher eventPublisher) {
         this.jobRepo = jobRepo;
         this.dtoMapper = dtoMapper;
+        this.gazetteer = gazetteer;
+        this.geoIndex = geoIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -42,8 +57,11 @@ public class JobServiceImpl implements JobService {
         SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
         String date = dateFormat.format(new Date());
         job.setPostedAt(date);
+        resolveGeoLocation(job);
 
         Job savedJob = jobRepo.save(job);
+        indexGeoLocation(savedJob);
+        eventPublisher.publishEvent(JobEvent.saved(savedJob));
         String companyUrl = "/api/companies/" + savedJob.getCompanyId();
 
         log.info("Job saved with ID: {}", savedJob.getId());
@@ -60,9 +78,17 @@ public class JobServiceImpl implements JobService {
             return false;
         }
         Job job = optionalOfJob.get();
+        Long oldCompanyId = job.getCompanyId();
         Job copiedJob = setNonNullPropertyNames(job, newJob);
+        resolveGeoLocation(copiedJob);
 
         jobRepo.save(copiedJob);
+        indexGeoLocation(copiedJob);
+        eventPublisher.publishEvent(JobEvent.saved(copiedJob));
+        // Job moved to another company, both aggregates changed
+        if (oldCompanyId != null && !oldCompanyId.equals(copiedJob.getCompanyId())) {
+            eventPublisher.publishEvent(JobEvent.deleted(oldCompanyId, id));
+        }
         return true;
     }
 
@@ -96,6 +122,21 @@ public class JobServiceImpl implements JobService {
         return retrieveJobDtos(jobs);
     }
 
+    @Override
+    public long countJobsByCompId(Long companyId) {
+        log.info("Executing countJobsByCompId() for Company ID: {}", companyId);
+        return jobRepo.countByCompanyId(companyId);
+    }
+
+    @Override
+    public List<JobDto> findJobsByCompIds(Collection<Long> companyIds) {
+        log.info("Executing findJobsByCompIds() for {} companies", companyIds.size());
+        List<Job> jobs = jobRepo.findByCompanyIdIn(companyIds);
+
+        log.info("Found {} jobs", jobs.size());
+        return retrieveJobDtos(jobs);
+    }
+
     @Override
     public JobDto getJobById(Long id) {
         log.info("Executing getJobById()");
@@ -115,11 +156,14 @@ public class JobServiceImpl implements JobService {
     @Override
     public boolean deleteJobById(Long id) {
         log.info("Executing deleteJobById() for Job ID: {}", id);
-        if (!jobRepo.existsById(id)) {
+        Optional<Job> job = jobRepo.findById(id);
+        if (job.isEmpty()) {
             log.warn("Job ID: {} does not exist.", id);
             return false;
         }
         jobRepo.deleteById(id);
+        eventPublisher.publishEvent(new JobLocationChanged(id, null));
+        eventPublisher.publishEvent(JobEvent.deleted(job.get().getCompanyId(), id));
         return true;
     }
 
@@ -127,11 +171,14 @@ public class JobServiceImpl implements JobService {
     @Transactional
     public boolean deleteJobByCompId(Long companyId) {
         log.info("Executing deleteJobByCompId() with Company ID: {}", companyId);
+        List<Long> jobIds = jobRepo.findIdsByCompanyId(companyId);
         int deletedCount = jobRepo.deleteByCompanyId(companyId);
         if (deletedCount == 0) {
             log.warn("No jobs found for company id: {}", companyId);
             return false;
         }
+        jobIds.forEach(jobId -> eventPublisher.publishEvent(new JobLocationChanged(jobId, null)));
+        eventPublisher.publishEvent(JobEvent.deleted(companyId, null));
         log.warn("Jobs deleted count: {}", deletedCount);
         return true;
     }
@@ -171,6 +218,54 @@ public class JobServiceImpl implements JobService {
         return retrieveJobDtos(jobs);
     }
 
+    //fetch jobs within a radius of a gazetteer location
+    @Override
+    public List<JobDto> findJobsNearLocation(String location, double radiusKm) {
+        log.info("Executing findJobsNearLocation() for location: {}, radius: {} km", location, radiusKm);
+        GeoPoint center = gazetteer.resolve(location)
+                .orElseThrow(() -> new ResourceNotFoundException("Unknown location: " + location));
+
+        List<Map.Entry<Long, Double>> matches = geoIndex.findWithinRadius(center, radiusKm);
+        if (matches.isEmpty()) {
+            log.info("No jobs available within {} km of {}", radiusKm, location);
+            return new ArrayList<>();
+        }
+
+        Map<Long, Job> jobsById = jobRepo.findAllById(matches.stream().map(Map.Entry::getKey).toList())
+                .stream()
+                .collect(Collectors.toMap(Job::getId, job -> job));
+
+        List<JobDto> jobDtos = new ArrayList<>();
+        for (Map.Entry<Long, Double> match : matches) {
+            Job job = jobsById.get(match.getKey());
+            if (job != null) {
+                JobDto jobDto = dtoMapper.mapToDtoWithUrl(job, "/api/companies/" + job.getCompanyId());
+                jobDto.setDistanceKm(Math.round(match.getValue() * 10) / 10.0);
+                jobDtos.add(jobDto);
+            }
+        }
+        log.info("Found {} jobs", jobDtos.size());
+        return jobDtos;
+    }
+
+    private void resolveGeoLocation(Job job) {
+        Optional<GeoPoint> point = gazetteer.resolve(job.getLocation());
+        job.setLatitude(point.map(GeoPoint::latitude).orElse(null));
+        job.setLongitude(point.map(GeoPoint::longitude).orElse(null));
+        job.setGeoHash(point.map(p -> GeoHash.encode(p, GeoHash.MAX_PRECISION)).orElse(null));
+        if (point.isEmpty()) {
+            log.warn("Location '{}' not found in gazetteer, job will not appear in radius search", job.getLocation());
+        }
+    }
+
+    // Applied to the index after commit, a rolled back save leaves it untouched
+    private void indexGeoLocation(Job job) {
+        GeoPoint point = job.getLatitude() != null && job.getLongitude() != null
+                ? new GeoPoint(job.getLatitude(), job.getLongitude())
+                : null;
+        eventPublisher.publishEvent(new JobLocationChanged(job.getId(), point));
+    }
+
     public List<JobDto> retrieveJobDtos(List<Job> jobs) {
         return jobs.stream()
                 .map(job -> {
@@ -0,0 +1,80 @@
+package com.JobNest.jobms.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoHashTest {
+
+    @Test
+    void encodesKnownPoints() {
+        assertEquals("u4pruydqq", GeoHash.encode(new GeoPoint(57.64911, 10.40744), 9));
+        assertEquals("ezs42", GeoHash.encode(new GeoPoint(42.6, -5.6), 5));
+        assertEquals("tdr1", GeoHash.encode(new GeoPoint(12.9716, 77.5946), 4));
+    }
+
+    @Test
+    void boundaryValuesFallIntoUpperCell() {
+        // Cell boundaries belong to the cell to the north and east
+        assertEquals("s0000", GeoHash.encode(new GeoPoint(0, 0), 5));
+        assertEquals("7zzzz", GeoHash.encode(new GeoPoint(-1e-9, -1e-9), 5));
+        assertEquals("zzzzz", GeoHash.encode(new GeoPoint(90, 180), 5));
+        assertEquals("00000", GeoHash.encode(new GeoPoint(-90, -180), 5));
+    }
+
+    @Test
+    void prefixOfLongerHashIsCoarserHash() {
+        GeoPoint point = new GeoPoint(28.6139, 77.2090);
+        String full = GeoHash.encode(point, GeoHash.MAX_PRECISION);
+        for (int precision = 1; precision < GeoHash.MAX_PRECISION; precision++) {
+            assertEquals(full.substring(0, precision), GeoHash.encode(point, precision));
+        }
+    }
+
+    @Test
+    void cellSizeAlternatesLongitudeAndLatitudeBits() {
+        assertArrayEquals(new double[]{45.0, 45.0}, GeoHash.cellSize(1), 1e-12);
+        assertArrayEquals(new double[]{180.0 / 32, 360.0 / 32}, GeoHash.cellSize(2), 1e-12);
+        assertArrayEquals(new double[]{180.0 / 4096, 360.0 / 8192}, GeoHash.cellSize(5), 1e-12);
+    }
+
+    @Test
+    void precisionCellsAreAtLeastAsLargeAsRadius() {
+        for (double radiusKm : new double[]{0.5, 5, 25, 100, 500}) {
+            for (double latitude : new double[]{0, 45, 70}) {
+                int precision = GeoHash.precisionForRadius(radiusKm, latitude);
+                double[] size = GeoHash.cellSize(precision);
+                assertTrue(size[0] * 111.32 >= radiusKm, "height at precision " + precision);
+                assertTrue(size[1] * 111.32 * Math.cos(Math.toRadians(latitude)) >= radiusKm,
+                        "width at precision " + precision);
+            }
+        }
+    }
+
+    @Test
+    void coveringCellsAreCentreAndEightNeighbours() {
+        GeoPoint center = new GeoPoint(42.6, -5.6);
+        Set<String> cells = GeoHash.coveringCells(center, 5);
+
+        assertEquals(9, cells.size());
+        assertTrue(cells.contains("ezs42"));
+        assertTrue(cells.containsAll(Set.of("ezs48", "ezs43", "ezs41", "ezs40", "ezefr", "ezefp", "ezs49", "ezefx")));
+    }
+
+    @Test
+    void coveringCellsWrapAroundAntimeridian() {
+        Set<String> cells = GeoHash.coveringCells(new GeoPoint(0.01, 179.99), 5);
+
+        assertTrue(cells.contains(GeoHash.encode(new GeoPoint(0.01, -179.99), 5)));
+        assertEquals(9, cells.size());
+    }
+
+    @Test
+    void coveringCellsSkipRowsBeyondThePole() {
+        Set<String> cells = GeoHash.coveringCells(new GeoPoint(89.99, 10), 5);
+
+        assertEquals(6, cells.size());
+    }
+}
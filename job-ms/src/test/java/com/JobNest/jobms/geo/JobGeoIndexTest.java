@@ -0,0 +1,80 @@
+package com.JobNest.jobms.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobGeoIndexTest {
+
+    private final JobGeoIndex index = new JobGeoIndex(null);
+
+    @Test
+    void findsJobsAcrossCellBoundaryNearestFirst() {
+        // Either side of the prime meridian, the geohashes differ from the first character
+        index.put(1L, new GeoPoint(51.5, -0.001));
+        index.put(2L, new GeoPoint(51.5, 0.004));
+        index.put(3L, new GeoPoint(51.5, 0.5));
+
+        List<Map.Entry<Long, Double>> matches = index.findWithinRadius(new GeoPoint(51.5, 0.0), 1);
+
+        assertEquals(List.of(1L, 2L), matches.stream().map(Map.Entry::getKey).toList());
+        assertTrue(matches.get(0).getValue() < matches.get(1).getValue());
+    }
+
+    @Test
+    void findsJobsAcrossAntimeridian() {
+        index.put(1L, new GeoPoint(0.0, -179.999));
+
+        List<Map.Entry<Long, Double>> matches = index.findWithinRadius(new GeoPoint(0.0, 179.999), 1);
+
+        assertEquals(1, matches.size());
+        assertEquals(0.22, matches.get(0).getValue(), 0.01);
+    }
+
+    @Test
+    void radiusSearchMatchesBruteForce() {
+        Random random = new Random(42);
+        List<GeoPoint> points = new ArrayList<>();
+        for (long id = 0; id < 2000; id++) {
+            // Clustered around one city so many points sit near cell edges
+            GeoPoint point = new GeoPoint(19.0 + random.nextDouble() * 0.6, 72.6 + random.nextDouble() * 0.6);
+            points.add(point);
+            index.put(id, point);
+        }
+
+        for (int query = 0; query < 50; query++) {
+            GeoPoint center = new GeoPoint(19.0 + random.nextDouble() * 0.6, 72.6 + random.nextDouble() * 0.6);
+            double radiusKm = 0.5 + random.nextDouble() * 20;
+
+            List<Long> expected = new ArrayList<>();
+            for (int id = 0; id < points.size(); id++) {
+                if (center.distanceKm(points.get(id)) <= radiusKm) {
+                    expected.add((long) id);
+                }
+            }
+            List<Long> actual = new ArrayList<>(index.findWithinRadius(center, radiusKm).stream()
+                    .map(Map.Entry::getKey).toList());
+
+            expected.sort(null);
+            actual.sort(null);
+            assertEquals(expected, actual, "radius " + radiusKm + " around " + center);
+        }
+    }
+
+    @Test
+    void moveAndRemoveUpdateTheIndex() {
+        index.put(1L, new GeoPoint(12.97, 77.59));
+        index.onJobLocationChanged(new JobLocationChanged(1L, new GeoPoint(28.61, 77.21)));
+
+        assertTrue(index.findWithinRadius(new GeoPoint(12.97, 77.59), 5).isEmpty());
+        assertEquals(1, index.findWithinRadius(new GeoPoint(28.61, 77.21), 5).size());
+
+        index.onJobLocationChanged(new JobLocationChanged(1L, null));
+        assertTrue(index.findWithinRadius(new GeoPoint(28.61, 77.21), 5).isEmpty());
+    }
+}
@@ -0,0 +1,195 @@
+package com.jobnest.reviewsms.buffer;
+
+import com.jobnest.reviewsms.dto.ReviewEvent;
+import com.jobnest.reviewsms.entities.RatingHistogram;
+import com.jobnest.reviewsms.entities.Review;
+import com.jobnest.reviewsms.helper.RatingDecay;
+import com.jobnest.reviewsms.messaging.ReviewMsgProducer;
+import com.jobnest.reviewsms.repository.RatingHistogramRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Write-behind mode for review submissions. Accepted reviews wait in a bounded queue and are
+// acknowledged with a submission id; one flusher thread writes them as a JDBC batch, one transaction
+// per batch, and publishes one ReviewEvent per written review after commit.
+// Reviews still queued when the process dies are lost, flush-interval and capacity bound that window.
+@Component
+@ConditionalOnProperty(name = "reviews.write-behind.enabled", havingValue = "true")
+public class ReviewWriteBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewWriteBuffer.class);
+    private static final String INSERT_REVIEW =
+            "INSERT INTO review_tb (description, rating, posted_at, company_id) VALUES (?, ?, ?, ?)";
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RatingHistogramRepository histogramRepo;
+    private final ReviewMsgProducer msgProducer;
+    private final RatingDecay ratingDecay;
+    private final BlockingQueue<PendingReview> queue;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration offerTimeout;
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    // Constructor Injection
+    public ReviewWriteBuffer(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            RatingHistogramRepository histogramRepo,
+            ReviewMsgProducer msgProducer,
+            RatingDecay ratingDecay,
+            MeterRegistry meterRegistry,
+            @Value("${reviews.write-behind.capacity:10000}") int capacity,
+            @Value("${reviews.write-behind.batch-size:500}") int batchSize,
+            @Value("${reviews.write-behind.flush-interval:PT0.05S}") Duration flushInterval,
+            @Value("${reviews.write-behind.offer-timeout:PT0S}") Duration offerTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.histogramRepo = histogramRepo;
+        this.msgProducer = msgProducer;
+        this.ratingDecay = ratingDecay;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.offerTimeout = offerTimeout;
+        this.flusher = new Thread(this::runFlusher, "review-write-behind");
+        this.flusher.setDaemon(true);
+        Gauge.builder("reviews.write-behind.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher.start();
+        log.info("Review write-behind started, capacity: {}, batch size: {}", queue.remainingCapacity(), batchSize);
+    }
+
+    // Returns the submission id, or null when the buffer is full or stopped and the caller must write synchronously
+    public String offer(Review review) {
+        if (!running) {
+            return null;
+        }
+        PendingReview pending = new PendingReview(UUID.randomUUID().toString(), review);
+        try {
+            if (queue.offer(pending, offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return pending.submissionId();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.warn("Review write-behind buffer full, writing synchronously for company ID: {}", review.getCompanyId());
+        return null;
+    }
+
+    // Drains what is left once the flusher has stopped, beans it writes through are still alive here
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        List<PendingReview> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+        log.info("Review write-behind stopped");
+    }
+
+    private void runFlusher() {
+        List<PendingReview> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                // Waits for the first review, then takes whatever else queued up meanwhile
+                PendingReview first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Review write-behind flush failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingReview> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(batch));
+        } catch (RuntimeException e) {
+            // One bad review must not lose the others, retry them one transaction each
+            log.warn("Batch of {} reviews failed, retrying one by one", batch.size(), e);
+            List<PendingReview> written = new ArrayList<>(batch.size());
+            for (PendingReview pending : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write(List.of(pending)));
+                    written.add(pending);
+                } catch (RuntimeException ex) {
+                    log.error("Dropping review with submission ID: {}", pending.submissionId(), ex);
+                }
+            }
+            publish(written);
+            return;
+        }
+        publish(batch);
+        log.info("Flushed {} reviews", batch.size());
+    }
+
+    private void write(List<PendingReview> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (PendingReview pending : batch) {
+            Review review = pending.review();
+            rows.add(new Object[]{review.getDescription(), review.getRating(), review.getPostedAt(), review.getCompanyId()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_REVIEW, rows);
+
+        // One histogram upsert per distinct company, counts per bucket summed over the batch
+        Map<Long, long[]> buckets = new LinkedHashMap<>();
+        Map<Long, Double> sums = new LinkedHashMap<>();
+        for (PendingReview pending : batch) {
+            Review review = pending.review();
+            buckets.computeIfAbsent(review.getCompanyId(), id -> new long[5])[RatingHistogram.starOf(review.getRating()) - 1]++;
+            sums.merge(review.getCompanyId(), review.getRating(), Double::sum);
+        }
+        long now = ratingDecay.now();
+        buckets.forEach((companyId, counts) -> histogramRepo.addRatings(
+                companyId, counts[0], counts[1], counts[2], counts[3], counts[4], sums.get(companyId),
+                ratingDecay.getLambda(), now));
+    }
+
+    // After commit only, Company-Service must never count a review that was rolled back.
+    // Not merged per company, Company-Service buckets each rating into its star histogram.
+    private void publish(List<PendingReview> written) {
+        for (PendingReview pending : written) {
+            Review review = pending.review();
+            msgProducer.publishMessage(new ReviewEvent(review.getCompanyId(), review.getRating(), 1));
+        }
+    }
+
+    private record PendingReview(String submissionId, Review review) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.jobnest.reviewsms.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    // Company-Service consumes review events with several consumers, each needs a partition of its own
+    @Bean
+    public NewTopic reviewAddedTopic(
+            @Value("${reviews.kafka.topic.partitions:3}") int partitions,
+            @Value("${reviews.kafka.topic.replicas:1}") int replicas) {
+        return TopicBuilder.name("review-added-topic").partitions(partitions).replicas(replicas).build();
+    }
+}
@@ -1,19 +1,31 @@
 package com.jobnest.reviewsms.controller;
 
+import com.jobnest.reviewsms.dto.RatingHistogramDto;
+import com.jobnest.reviewsms.dto.RatingSummary;
 import com.jobnest.reviewsms.dto.ReviewDto;
+import com.jobnest.reviewsms.dto.ReviewPageDto;
 import com.jobnest.reviewsms.entities.Review;
 import com.jobnest.reviewsms.helper.ApiResponse;
 import com.jobnest.reviewsms.helper.ResponseBuilder;
 import com.jobnest.reviewsms.service.ReviewService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Size;
+import java.time.Duration;
 import java.util.List;
+import java.util.Set;
 
 @RestController
+@Validated
 @RequestMapping("/api/reviews")
 public class ReviewController {
 
@@ -21,6 +33,9 @@ public class ReviewController {
     private final ReviewService reviewService;
     private final ResponseBuilder responseBuilder;
 
+    @Value("${reviews.histogram.cache-max-age:30s}")
+    private Duration histogramMaxAge;
+
     private boolean success;
     private String message;
     private HttpStatus httpStatus;
@@ -37,31 +52,105 @@ public class ReviewController {
         ReviewDto reviewDto = reviewService.addReview(review, companyId);
 
         success = reviewDto != null;
-        message = "Review saved successfully";
-        httpStatus = HttpStatus.CREATED;
+        // Buffered reviews are only accepted yet, the submission id is the acknowledgement
+        boolean buffered = success && reviewDto.getSubmissionId() != null;
+        message = buffered
+                ? "Review accepted with submission ID: " + reviewDto.getSubmissionId()
+                : "Review saved successfully";
+        httpStatus = buffered ? HttpStatus.ACCEPTED : HttpStatus.CREATED;
 
         ApiResponse<String> response = responseBuilder.buildResponseWithoutData(success, message, httpStatus);
         return new ResponseEntity<>(response, httpStatus);
     }
 
+    // Keyset pagination, pass nextAfterPostedAt/nextAfterId of the previous page
+    // as afterPostedAt/afterId, minRating/maxRating are inclusive.
     @GetMapping("/company")
-    public ResponseEntity<ApiResponse<List<ReviewDto>>> getReviewsByCompId(@RequestParam Long companyId) {
-        log.info("Received GET request to fetch reviews for company ID: {}", companyId);
-        List<ReviewDto> reviewDtos = reviewService.getReviewsByCompId(companyId);
-
-        success = !reviewDtos.isEmpty();
+    public ResponseEntity<ApiResponse<ReviewPageDto>> getReviewsPageByCompId(
+            @RequestParam Long companyId,
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(required = false) Double maxRating,
+            @RequestParam(required = false) String afterPostedAt,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        log.info("Received GET request to fetch reviews page for company ID: {}", companyId);
+        ReviewPageDto reviewPage = reviewService.getReviewsPage(companyId, minRating, maxRating, afterPostedAt, afterId, size);
+
+        success = !reviewPage.getReviews().isEmpty();
         message = success ? "Reviews fetched successfully" : "No reviews found for company ID: " + companyId;
         httpStatus = success ? HttpStatus.OK : HttpStatus.NOT_FOUND;
 
+        ApiResponse<ReviewPageDto> response = responseBuilder.buildResponseWithPage(reviewPage, success, message, httpStatus);
+        return new ResponseEntity<>(response, httpStatus);
+    }
+
+    // Batch variant used by aggregating callers, always answers 200 with a possibly empty list.
+    // Only the newest perCompany reviews of each company are returned.
+    @GetMapping("/companies")
+    public ResponseEntity<ApiResponse<List<ReviewDto>>> getReviewsByCompIds(
+            @RequestParam("companyIds") @Size(min = 1, max = 100) Set<Long> companyIds,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int perCompany) {
+        log.info("Received GET request to fetch reviews for {} companies", companyIds.size());
+        List<ReviewDto> reviewDtos = reviewService.getReviewsByCompIds(companyIds, perCompany);
+
+        success = true;
+        message = "Reviews fetched successfully";
+        httpStatus = HttpStatus.OK;
+
         ApiResponse<List<ReviewDto>> response = responseBuilder.buildResponseWithData(reviewDtos, success, message, httpStatus);
         return new ResponseEntity<>(response, httpStatus);
     }
 
+    // Computed in SQL, no review rows are loaded
     @GetMapping("/avgRating")
     public double getAvgCompanyRating(@RequestParam Long companyId) {
         log.info("Received GET request to fetch avg rating for company id: {}", companyId);
-        List<ReviewDto> reviewDtos = reviewService.getReviewsByCompId(companyId);
-        return reviewDtos.stream().mapToDouble(ReviewDto::getRating).average().orElse(0.0);
+        return reviewService.getRatingSummary(companyId).getAverageRating();
+    }
+
+    // Average, count and sum of one company's ratings, zeros when it has no reviews
+    @GetMapping("/rating-summary")
+    public ResponseEntity<ApiResponse<RatingSummary>> getRatingSummary(@RequestParam Long companyId) {
+        log.info("Received GET request to fetch rating summary for company ID: {}", companyId);
+        RatingSummary ratingSummary = reviewService.getRatingSummary(companyId);
+
+        success = true;
+        message = "Rating summary fetched successfully";
+        httpStatus = HttpStatus.OK;
+
+        ApiResponse<RatingSummary> response = responseBuilder.buildResponseWithRatingSummary(ratingSummary, success, message, httpStatus);
+        return new ResponseEntity<>(response, httpStatus);
+    }
+
+    // Star distribution for company pages, read from the precomputed histogram and cacheable by clients
+    @GetMapping("/rating-histogram")
+    public ResponseEntity<ApiResponse<RatingHistogramDto>> getRatingHistogram(@RequestParam Long companyId) {
+        log.info("Received GET request to fetch rating histogram for company ID: {}", companyId);
+        RatingHistogramDto ratingHistogram = reviewService.getRatingHistogram(companyId);
+
+        success = true;
+        message = "Rating histogram fetched successfully";
+        httpStatus = HttpStatus.OK;
+
+        ApiResponse<RatingHistogramDto> response = responseBuilder.buildResponseWithRatingHistogram(ratingHistogram, success, message, httpStatus);
+        return ResponseEntity.status(httpStatus)
+                .cacheControl(CacheControl.maxAge(histogramMaxAge).cachePublic())
+                .body(response);
+    }
+
+    // Per-company aggregates for an inclusive company id range, used by the Company-Service rating rebuild
+    @GetMapping("/rating-summaries")
+    public List<RatingSummary> getRatingSummaries(@RequestParam Long fromCompanyId, @RequestParam Long toCompanyId) {
+        log.info("Received GET request to fetch rating summaries for company IDs {} to {}", fromCompanyId, toCompanyId);
+        return reviewService.getRatingSummaries(fromCompanyId, toCompanyId);
+    }
+
+    // Batch variant for many companies in one call, companies without reviews are absent
+    @GetMapping(value = "/rating-summaries", params = "companyIds")
+    public List<RatingSummary> getRatingSummariesByCompIds(
+            @RequestParam("companyIds") @Size(min = 1, max = 500) Set<Long> companyIds) {
+        log.info("Received GET request to fetch rating summaries for {} companies", companyIds.size());
+        return reviewService.getRatingSummaries(companyIds);
     }
 
     @DeleteMapping("/{companyId}")
@@ -0,0 +1,26 @@
+package com.jobnest.reviewsms.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+public class RatingHistogramDto {
+
+    private Long companyId;
+
+    // Star rating (1-5) to number of reviews
+    private Map<Integer, Long> counts;
+
+    private long reviewCount;
+
+    private double averageRating;
+
+    // Recent reviews weigh more, a review counts half after each reviews.rating.decay.half-life
+    private double decayedAverageRating;
+
+    // Effective number of reviews behind decayedAverageRating
+    private double decayedReviewCount;
+}
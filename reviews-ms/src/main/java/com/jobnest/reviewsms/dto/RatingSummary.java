@@ -0,0 +1,29 @@
+package com.jobnest.reviewsms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Rating aggregate of one company, computed in SQL
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingSummary {
+
+    private Long companyId;
+
+    private Double averageRating;
+
+    private Long reviewCount;
+
+    private Double ratingSum;
+
+    // Newest postedAt, formatted yyyy-MM-dd HH:mm:ss. Only filled by the per-id batch lookup.
+    private String lastReviewAt;
+
+    public RatingSummary(Long companyId, Double averageRating, Long reviewCount, Double ratingSum) {
+        this(companyId, averageRating, reviewCount, ratingSum, null);
+    }
+}
@@ -19,4 +19,8 @@ public class ReviewDto {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private Long companyId;
 
+    // Set instead of id when the review was accepted into the write-behind buffer
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String submissionId;
+
 }
\ No newline at end of file
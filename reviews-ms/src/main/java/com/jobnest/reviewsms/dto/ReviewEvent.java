@@ -0,0 +1,20 @@
+package com.jobnest.reviewsms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Rating change of one company, applied incrementally in Company-Service
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewEvent {
+
+    private Long companyId;
+
+    private double ratingDelta;
+
+    private long countDelta;
+}
@@ -0,0 +1,23 @@
+package com.jobnest.reviewsms.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// One page of a company's reviews ordered by postedAt desc, id desc.
+// nextAfterPostedAt/nextAfterId are passed back as afterPostedAt/afterId to fetch the next page.
+@Getter
+@Setter
+public class ReviewPageDto {
+    private List<ReviewDto> reviews;
+    private boolean hasMore;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextAfterPostedAt;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long nextAfterId;
+
+}
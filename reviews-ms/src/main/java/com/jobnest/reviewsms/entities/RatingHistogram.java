@@ -0,0 +1,45 @@
+package com.jobnest.reviewsms.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+// Review count per star bucket (rating rounded to 1-5) and rating sum of one company,
+// written in the same transaction as the reviews it counts
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Entity
+@Table(name = "review_histogram_tb")
+public class RatingHistogram {
+    @Id
+    private Long companyId;
+
+    private long oneStarCount;
+
+    private long twoStarCount;
+
+    private long threeStarCount;
+
+    private long fourStarCount;
+
+    private long fiveStarCount;
+
+    private double ratingSum;
+
+    // Exponentially decayed accumulators, valid as of decayedAt (epoch seconds), see RatingDecay
+    private double decayedRatingSum;
+
+    private double decayedCount;
+
+    private long decayedAt;
+
+    // Ratings are doubles, each one is counted in its nearest whole-star bucket
+    public static int starOf(double rating) {
+        return (int) Math.max(1, Math.min(5, Math.round(rating)));
+    }
+}
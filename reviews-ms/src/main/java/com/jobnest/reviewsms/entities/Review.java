@@ -12,7 +12,12 @@ import javax.validation.constraints.Size;
 @NoArgsConstructor
 @Data
 @Entity
-@Table(name = "review_tb")
+@Table(name = "review_tb", indexes = {
+        // Covers per-company aggregates, AVG/COUNT/SUM are answered from the index alone
+        @Index(name = "idx_review_company_rating", columnList = "company_id, rating"),
+        // Keyset pages per company, rating is carried along so rating filters are checked in the index
+        @Index(name = "idx_review_company_posted_id", columnList = "company_id, posted_at DESC, id DESC, rating")
+})
 public class Review {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
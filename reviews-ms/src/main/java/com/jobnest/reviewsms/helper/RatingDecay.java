@@ -0,0 +1,45 @@
+package com.jobnest.reviewsms.helper;
+
+import com.jobnest.reviewsms.entities.RatingHistogram;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// Exponential time decay of review weights: a review counts half as much after every half-life.
+// Each histogram row keeps decayedRatingSum and decayedCount as of decayedAt, so a new review is
+// one O(1) upsert and reading applies the decay since decayedAt. The decayed average is the ratio
+// of the two accumulators, which the common decay factor does not change.
+@Component
+public class RatingDecay {
+
+    // Per second
+    private final double lambda;
+
+    public RatingDecay(@Value("${reviews.rating.decay.half-life:P180D}") Duration halfLife) {
+        this.lambda = Math.log(2) / halfLife.getSeconds();
+    }
+
+    public double getLambda() {
+        return lambda;
+    }
+
+    public long now() {
+        return Instant.now().getEpochSecond();
+    }
+
+    // Weight at now of a review posted at postedAt, both epoch seconds from the now() clock
+    public double weight(long postedAt, long now) {
+        return Math.exp(-lambda * (now - postedAt));
+    }
+
+    public double decayedAverage(RatingHistogram histogram) {
+        return histogram.getDecayedCount() == 0 ? 0.0 : histogram.getDecayedRatingSum() / histogram.getDecayedCount();
+    }
+
+    // Effective number of reviews at the given time, older reviews contribute less than 1
+    public double decayedCount(RatingHistogram histogram, long now) {
+        return histogram.getDecayedCount() * Math.exp(-lambda * (now - histogram.getDecayedAt()));
+    }
+}
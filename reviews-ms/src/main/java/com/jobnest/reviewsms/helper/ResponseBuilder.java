@@ -1,6 +1,9 @@
 package com.jobnest.reviewsms.helper;
 
+import com.jobnest.reviewsms.dto.RatingHistogramDto;
+import com.jobnest.reviewsms.dto.RatingSummary;
 import com.jobnest.reviewsms.dto.ReviewDto;
+import com.jobnest.reviewsms.dto.ReviewPageDto;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
@@ -24,6 +27,45 @@ public class ResponseBuilder {
                 .build();
     }
 
+    public ApiResponse<RatingSummary> buildResponseWithRatingSummary(
+            RatingSummary ratingSummary, boolean success, String message, HttpStatus status) {
+
+        return ApiResponse.<RatingSummary>builder()
+                .data(ratingSummary)
+                .success(success)
+                .message(message)
+                .status(status)
+                .timeStamp(LocalDateTime.now())
+                .requestId(UUID.randomUUID().toString())
+                .build();
+    }
+
+    public ApiResponse<RatingHistogramDto> buildResponseWithRatingHistogram(
+            RatingHistogramDto ratingHistogram, boolean success, String message, HttpStatus status) {
+
+        return ApiResponse.<RatingHistogramDto>builder()
+                .data(ratingHistogram)
+                .success(success)
+                .message(message)
+                .status(status)
+                .timeStamp(LocalDateTime.now())
+                .requestId(UUID.randomUUID().toString())
+                .build();
+    }
+
+    public ApiResponse<ReviewPageDto> buildResponseWithPage(
+            ReviewPageDto reviewPage, boolean success, String message, HttpStatus status) {
+
+        return ApiResponse.<ReviewPageDto>builder()
+                .data(reviewPage)
+                .success(success)
+                .message(message)
+                .status(status)
+                .timeStamp(LocalDateTime.now())
+                .requestId(UUID.randomUUID().toString())
+                .build();
+    }
+
     public ApiResponse<String> buildResponseWithoutData(
             boolean success, String message, HttpStatus status) {
 
@@ -11,16 +11,20 @@ public class ReviewMsgConsumer {
 
     private static final Logger log = LoggerFactory.getLogger(ReviewMsgConsumer.class);
     private final ReviewService reviewService;
+    private final ReviewMsgProducer msgProducer;
 
     // Constructor
-    public ReviewMsgConsumer(ReviewService reviewService) {
+    public ReviewMsgConsumer(ReviewService reviewService, ReviewMsgProducer msgProducer) {
         this.reviewService = reviewService;
+        this.msgProducer = msgProducer;
     }
 
+    // Delete command of the company deletion saga, acknowledged also when there were no reviews
     @KafkaListener(topics = "company-deleted-topic", groupId = "reviews-service")
     public void consumeMessage(Long companyId) {
         log.info("*** Message received ***");
         reviewService.deleteReviewByCompId(companyId);
+        msgProducer.publishDeletionAck(companyId);
         log.info("*** Message consumed ***");
     }
 }
\ No newline at end of file
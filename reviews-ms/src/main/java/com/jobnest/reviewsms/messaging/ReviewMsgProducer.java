@@ -1,23 +1,54 @@
 package com.jobnest.reviewsms.messaging;
 
+import com.jobnest.reviewsms.dto.CompanyDeletionAck;
+import com.jobnest.reviewsms.dto.ReviewEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ExecutionException;
 
 @Service
 public class ReviewMsgProducer {
     private static final Logger log = LoggerFactory.getLogger(ReviewMsgProducer.class);
     private final String TOPIC = "review-added-topic";
+    private final String ACK_TOPIC = "company-deletion-ack-topic";
+
+    @Autowired
+    private KafkaTemplate<String, ReviewEvent> kafkaTemplate;
 
     @Autowired
-    private KafkaTemplate<String, Long> kafkaTemplate;
+    private KafkaTemplate<String, CompanyDeletionAck> ackKafkaTemplate;
+
+    // Review saved synchronously, sent only after its transaction committed, so Company-Service
+    // never counts a review that was rolled back
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewAdded(ReviewEvent reviewEvent) {
+        publishMessage(reviewEvent);
+    }
 
     // Publish message to Kafka topic, to be consumed in Company-Service
-    public void publishMessage(Long companyId) {
-        log.info("Sending Topic='{}' with Payload='{}' ", TOPIC, companyId);
-        kafkaTemplate.send(TOPIC, companyId);
+    public void publishMessage(ReviewEvent reviewEvent) {
+        log.info("Sending Topic='{}' with Payload='{}:{}' ", TOPIC, reviewEvent.getCompanyId(), reviewEvent.getRatingDelta());
+        kafkaTemplate.send(TOPIC, String.valueOf(reviewEvent.getCompanyId()), reviewEvent);
+        log.info("Topic sent to consumer");
+    }
+
+    // Waits for the broker, a failed ack fails the listener and the delete command is redelivered
+    public void publishDeletionAck(Long companyId) {
+        log.info("Sending Topic='{}' with Payload='{}' ", ACK_TOPIC, companyId);
+        try {
+            ackKafkaTemplate.send(ACK_TOPIC, String.valueOf(companyId), new CompanyDeletionAck(companyId, "reviews-service")).get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Interrupted while sending deletion ack for company ID: " + companyId, ex);
+        } catch (ExecutionException ex) {
+            throw new KafkaException("Deletion ack for company ID: " + companyId + " not sent", ex.getCause());
+        }
         log.info("Topic sent to consumer");
     }
-}
\ No newline at end of file
+}
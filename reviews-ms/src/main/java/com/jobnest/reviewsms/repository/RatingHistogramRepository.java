@@ -0,0 +1,96 @@
+package com.jobnest.reviewsms.repository;
+
+import com.jobnest.reviewsms.entities.RatingHistogram;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RatingHistogramRepository extends JpaRepository<RatingHistogram, Long> {
+
+    // Creates the row on the first review, increments in place afterwards.
+    // Bucket parameters are the number of new reviews per star, ratingSum their summed ratings.
+    // The decayed accumulators are kept as of decayed_at: reviews added at :now are scaled up by
+    // EXP(lambda * (now - decayed_at)) instead of decaying every older review, see RatingDecay.
+    @Modifying
+    @Query(value = "INSERT INTO review_histogram_tb " +
+            "(company_id, one_star_count, two_star_count, three_star_count, four_star_count, five_star_count, rating_sum, " +
+            "decayed_rating_sum, decayed_count, decayed_at) " +
+            "VALUES (:companyId, :one, :two, :three, :four, :five, :ratingSum, " +
+            ":ratingSum, :one + :two + :three + :four + :five, :now) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "one_star_count = one_star_count + VALUES(one_star_count), " +
+            "two_star_count = two_star_count + VALUES(two_star_count), " +
+            "three_star_count = three_star_count + VALUES(three_star_count), " +
+            "four_star_count = four_star_count + VALUES(four_star_count), " +
+            "five_star_count = five_star_count + VALUES(five_star_count), " +
+            "rating_sum = rating_sum + VALUES(rating_sum), " +
+            "decayed_rating_sum = decayed_rating_sum + VALUES(decayed_rating_sum) * EXP(:lambda * (:now - decayed_at)), " +
+            "decayed_count = decayed_count + VALUES(decayed_count) * EXP(:lambda * (:now - decayed_at))",
+            nativeQuery = true)
+    int addRatings(
+            @Param("companyId") Long companyId,
+            @Param("one") long one,
+            @Param("two") long two,
+            @Param("three") long three,
+            @Param("four") long four,
+            @Param("five") long five,
+            @Param("ratingSum") double ratingSum,
+            @Param("lambda") double lambda,
+            @Param("now") long now);
+
+    // Companies whose reviews predate the histogram table
+    @Query(value = "SELECT DISTINCT r.company_id FROM review_tb r " +
+            "WHERE NOT EXISTS (SELECT 1 FROM review_histogram_tb h WHERE h.company_id = r.company_id)",
+            nativeQuery = true)
+    List<Long> findCompanyIdsWithoutHistogram();
+
+    // Backfill insert, existing rows are kept
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO review_histogram_tb " +
+            "(company_id, one_star_count, two_star_count, three_star_count, four_star_count, five_star_count, rating_sum, " +
+            "decayed_rating_sum, decayed_count, decayed_at) " +
+            "VALUES (:companyId, :one, :two, :three, :four, :five, :ratingSum, :decayedRatingSum, :decayedCount, :decayedAt)",
+            nativeQuery = true)
+    int insertIfMissing(
+            @Param("companyId") Long companyId,
+            @Param("one") long one,
+            @Param("two") long two,
+            @Param("three") long three,
+            @Param("four") long four,
+            @Param("five") long five,
+            @Param("ratingSum") double ratingSum,
+            @Param("decayedRatingSum") double decayedRatingSum,
+            @Param("decayedCount") double decayedCount,
+            @Param("decayedAt") long decayedAt);
+
+    // Moves the decayed accumulators of a company id range to :now, so the scale factors of later
+    // additions stay close to 1. decayed_at is assigned last, the expressions before it see the old value.
+    @Modifying
+    @Query(value = "UPDATE review_histogram_tb SET " +
+            "decayed_rating_sum = decayed_rating_sum * EXP(:lambda * (decayed_at - :now)), " +
+            "decayed_count = decayed_count * EXP(:lambda * (decayed_at - :now)), " +
+            "decayed_at = :now " +
+            "WHERE company_id BETWEEN :fromCompanyId AND :toCompanyId AND decayed_at < :now",
+            nativeQuery = true)
+    int compactDecay(
+            @Param("fromCompanyId") Long fromCompanyId,
+            @Param("toCompanyId") Long toCompanyId,
+            @Param("lambda") double lambda,
+            @Param("now") long now);
+
+    // Null when the table is empty
+    @Query("SELECT MIN(h.companyId) FROM RatingHistogram h")
+    Long findMinCompanyId();
+
+    @Query("SELECT MAX(h.companyId) FROM RatingHistogram h")
+    Long findMaxCompanyId();
+
+    @Modifying
+    @Query("DELETE FROM RatingHistogram h WHERE h.companyId = :companyId")
+    int deleteByCompanyId(@Param("companyId") Long companyId);
+}
@@ -1,17 +1,73 @@
 package com.jobnest.reviewsms.repository;
 
+import com.jobnest.reviewsms.dto.RatingSummary;
 import com.jobnest.reviewsms.entities.Review;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
-    List<Review> findByCompanyId(Long companyId);
+    // List return type: only LIMIT is applied from the Pageable, no count query
+    @Query("SELECT r FROM Review r " +
+            "WHERE r.companyId = :companyId " +
+            "AND (:minRating IS NULL OR r.rating >= :minRating) " +
+            "AND (:maxRating IS NULL OR r.rating <= :maxRating) " +
+            "AND (:afterPostedAt IS NULL " +
+            "OR r.postedAt < :afterPostedAt " +
+            "OR (r.postedAt = :afterPostedAt AND r.id < :afterId)) " +
+            "ORDER BY r.postedAt DESC, r.id DESC")
+    List<Review> fetchPageAfter(
+            @Param("companyId") Long companyId,
+            @Param("minRating") Double minRating,
+            @Param("maxRating") Double maxRating,
+            @Param("afterPostedAt") String afterPostedAt,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    // Newest reviews of each listed company, read along idx_review_company_posted_id
+    @Query(value = "SELECT id, description, rating, posted_at, company_id FROM (" +
+            "SELECT r.*, ROW_NUMBER() OVER (PARTITION BY r.company_id ORDER BY r.posted_at DESC, r.id DESC) AS rn " +
+            "FROM review_tb r WHERE r.company_id IN (:companyIds)) ranked " +
+            "WHERE rn <= :perCompany " +
+            "ORDER BY company_id, posted_at DESC, id DESC",
+            nativeQuery = true)
+    List<Review> findLatestByCompanyIdIn(
+            @Param("companyIds") Collection<Long> companyIds, @Param("perCompany") int perCompany);
+
+    List<Review> findByCompanyIdIn(Collection<Long> companyIds);
+
+    // Answered from idx_review_company_rating alone, empty when the company has no reviews
+    @Query("SELECT new com.jobnest.reviewsms.dto.RatingSummary(r.companyId, AVG(r.rating), COUNT(r), SUM(r.rating)) " +
+            "FROM Review r " +
+            "WHERE r.companyId = :companyId " +
+            "GROUP BY r.companyId")
+    Optional<RatingSummary> summarizeByCompanyId(@Param("companyId") Long companyId);
+
+    // One range scan of idx_review_company_rating, companies without reviews are absent
+    @Query("SELECT new com.jobnest.reviewsms.dto.RatingSummary(r.companyId, AVG(r.rating), COUNT(r), SUM(r.rating)) " +
+            "FROM Review r " +
+            "WHERE r.companyId BETWEEN :fromCompanyId AND :toCompanyId " +
+            "GROUP BY r.companyId")
+    List<RatingSummary> summarizeByCompanyIdRange(
+            @Param("fromCompanyId") Long fromCompanyId, @Param("toCompanyId") Long toCompanyId);
+
+    // Single GROUP BY over the listed companies, companies without reviews are absent
+    @Query("SELECT new com.jobnest.reviewsms.dto.RatingSummary(" +
+            "r.companyId, AVG(r.rating), COUNT(r), SUM(r.rating), MAX(r.postedAt)) " +
+            "FROM Review r " +
+            "WHERE r.companyId IN :companyIds " +
+            "GROUP BY r.companyId")
+    List<RatingSummary> summarizeByCompanyIds(@Param("companyIds") Collection<Long> companyIds);
 
     @Modifying
     @Query("DELETE FROM Review r WHERE r.companyId = :companyId")
@@ -0,0 +1,56 @@
+package com.jobnest.reviewsms.scheduling;
+
+import com.jobnest.reviewsms.helper.RatingDecay;
+import com.jobnest.reviewsms.repository.RatingHistogramRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// New reviews are weighted EXP(lambda * (now - decayedAt)), which grows without bound while decayedAt
+// stays put. Periodically rebases every row to the current time, one company id range per transaction,
+// so the weights stay near 1 and old accumulators do not overflow.
+@Component
+public class RatingDecayCompactor {
+
+    private static final Logger log = LoggerFactory.getLogger(RatingDecayCompactor.class);
+    private final RatingHistogramRepository histogramRepo;
+    private final RatingDecay ratingDecay;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    // Constructor Injection
+    public RatingDecayCompactor(
+            RatingHistogramRepository histogramRepo,
+            RatingDecay ratingDecay,
+            TransactionTemplate transactionTemplate,
+            @Value("${reviews.rating.decay.compaction.chunk-size:1000}") int chunkSize) {
+        this.histogramRepo = histogramRepo;
+        this.ratingDecay = ratingDecay;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${reviews.rating.decay.compaction.initial-delay:PT1H}",
+            fixedDelayString = "${reviews.rating.decay.compaction.interval:P1D}")
+    public void compact() {
+        Long minId = histogramRepo.findMinCompanyId();
+        Long maxId = histogramRepo.findMaxCompanyId();
+        if (minId == null || maxId == null) {
+            return;
+        }
+        long now = ratingDecay.now();
+        int compacted = 0;
+        for (long from = minId; from <= maxId; from += chunkSize) {
+            long to = Math.min(from + chunkSize - 1, maxId);
+            long chunkFrom = from;
+            Integer updated = transactionTemplate.execute(status ->
+                    histogramRepo.compactDecay(chunkFrom, to, ratingDecay.getLambda(), now));
+            compacted += updated == null ? 0 : updated;
+        }
+        log.info("Rebased decayed ratings of {} companies", compacted);
+    }
+}
@@ -1,9 +1,13 @@
 package com.jobnest.reviewsms.service;
 
+import com.jobnest.reviewsms.dto.RatingHistogramDto;
+import com.jobnest.reviewsms.dto.RatingSummary;
 import com.jobnest.reviewsms.dto.ReviewDto;
+import com.jobnest.reviewsms.dto.ReviewPageDto;
 import com.jobnest.reviewsms.entities.Review;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -11,7 +15,18 @@ public interface ReviewService {
 
     ReviewDto addReview(Review review, Long companyId);
 
-    List<ReviewDto> getReviewsByCompId(Long companyId);
+    ReviewPageDto getReviewsPage(
+            Long companyId, Double minRating, Double maxRating, String afterPostedAt, Long afterId, int size);
+
+    List<ReviewDto> getReviewsByCompIds(Collection<Long> companyIds, int perCompany);
+
+    RatingSummary getRatingSummary(Long companyId);
+
+    List<RatingSummary> getRatingSummaries(Long fromCompanyId, Long toCompanyId);
+
+    List<RatingSummary> getRatingSummaries(Collection<Long> companyIds);
+
+    RatingHistogramDto getRatingHistogram(Long companyId);
 
     boolean deleteReviewByCompId(Long companyId);
 }
\ No newline at end of file
@@ -1,76 +1,214 @@
 package com.jobnest.reviewsms.serviceImpl;
 
+import com.jobnest.reviewsms.buffer.ReviewWriteBuffer;
 import com.jobnest.reviewsms.dto.DtoMapper;
+import com.jobnest.reviewsms.dto.RatingHistogramDto;
+import com.jobnest.reviewsms.dto.RatingSummary;
 import com.jobnest.reviewsms.dto.ReviewDto;
+import com.jobnest.reviewsms.dto.ReviewEvent;
+import com.jobnest.reviewsms.dto.ReviewPageDto;
+import com.jobnest.reviewsms.entities.RatingHistogram;
 import com.jobnest.reviewsms.entities.Review;
-import com.jobnest.reviewsms.messaging.ReviewMsgProducer;
+import com.jobnest.reviewsms.helper.RatingDecay;
+import com.jobnest.reviewsms.repository.RatingHistogramRepository;
 import com.jobnest.reviewsms.repository.ReviewRepository;
 import com.jobnest.reviewsms.service.ReviewService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class ReviewServiceImpl implements ReviewService {
 
     private static final Logger log = LoggerFactory.getLogger(ReviewServiceImpl.class);
+    // 24-hour clock, postedAt strings must sort chronologically for lastReviewAt and review pages
+    private static final DateTimeFormatter POSTED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int BACKFILL_CHUNK_SIZE = 500;
     private final ReviewRepository reviewRepo;
-    private final ReviewMsgProducer msgProducer;
+    private final RatingHistogramRepository histogramRepo;
+    private final ApplicationEventPublisher eventPublisher;
     private final DtoMapper dtoMapper;
+    private final ReviewWriteBuffer writeBuffer;
+    private final RatingDecay ratingDecay;
 
     // Constructor Injection
     public ReviewServiceImpl(
             ReviewRepository reviewRepo,
-            ReviewMsgProducer msgProducer,
-            DtoMapper dtoMapper) {
+            RatingHistogramRepository histogramRepo,
+            ApplicationEventPublisher eventPublisher,
+            DtoMapper dtoMapper,
+            ObjectProvider<ReviewWriteBuffer> writeBuffer,
+            RatingDecay ratingDecay) {
         this.reviewRepo = reviewRepo;
-        this.msgProducer = msgProducer;
+        this.histogramRepo = histogramRepo;
+        this.eventPublisher = eventPublisher;
         this.dtoMapper = dtoMapper;
+        // Present only with reviews.write-behind.enabled=true
+        this.writeBuffer = writeBuffer.getIfAvailable();
+        this.ratingDecay = ratingDecay;
     }
 
     @Override
     @Transactional
     public ReviewDto addReview(Review review, Long companyId) {
-        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd hh:mm:ss");
-        String date = dateFormat.format(new Date());
-
-        review.setPostedAt(date);
+        review.setPostedAt(LocalDateTime.now().format(POSTED_AT_FORMAT));
         review.setCompanyId(companyId);
+
+        if (writeBuffer != null) {
+            String submissionId = writeBuffer.offer(review);
+            if (submissionId != null) {
+                ReviewDto reviewDto = dtoMapper.mapToDto(review);
+                reviewDto.setSubmissionId(submissionId);
+                return reviewDto;
+            }
+            // Buffer full, fall through to the synchronous write
+        }
+
         Review savedReview = reviewRepo.save(review);
+        addToHistogram(companyId, savedReview.getRating());
 
-        Long compId = savedReview.getCompanyId();
-        msgProducer.publishMessage(savedReview.getCompanyId());
+        // Carry the rating itself, Company-Service updates its running average without calling back.
+        // Sent by ReviewMsgProducer once this transaction committed.
+        eventPublisher.publishEvent(new ReviewEvent(savedReview.getCompanyId(), savedReview.getRating(), 1));
 
         log.info(" Review has been saved with ID: {}", savedReview.getId());
         return dtoMapper.mapToDto(savedReview);
     }
 
+    // Sorted and paged by the database, one index range scan per page
     @Override
-    public List<ReviewDto> getReviewsByCompId(Long companyId) {
-        List<Review> reviews = reviewRepo.findByCompanyId(companyId);
-        List<ReviewDto> reviewDtos = new ArrayList<>();
-        if (reviews.isEmpty()) {
-            log.warn("No reviews available for company ID: {}", companyId);
-            return reviewDtos; // empty list
+    public ReviewPageDto getReviewsPage(
+            Long companyId, Double minRating, Double maxRating, String afterPostedAt, Long afterId, int size) {
+        log.info("Executing getReviewsPage() for company ID: {} after postedAt: {}, id: {}", companyId, afterPostedAt, afterId);
+        // One extra row tells whether another page exists
+        List<Review> reviews = reviewRepo.fetchPageAfter(
+                companyId, minRating, maxRating, afterPostedAt,
+                afterId == null ? Long.MAX_VALUE : afterId, PageRequest.of(0, size + 1));
+
+        ReviewPageDto reviewPage = new ReviewPageDto();
+        reviewPage.setHasMore(reviews.size() > size);
+        List<Review> pageReviews = reviews.subList(0, Math.min(size, reviews.size()));
+        List<ReviewDto> reviewDtos = new ArrayList<>(pageReviews.size());
+        for (Review review : pageReviews) {
+            reviewDtos.add(dtoMapper.mapToDto(review));
         }
+        reviewPage.setReviews(reviewDtos);
+
+        if (reviewPage.isHasMore()) {
+            Review last = pageReviews.get(pageReviews.size() - 1);
+            reviewPage.setNextAfterPostedAt(last.getPostedAt());
+            reviewPage.setNextAfterId(last.getId());
+        }
+        return reviewPage;
+    }
+
+    @Override
+    public List<ReviewDto> getReviewsByCompIds(Collection<Long> companyIds, int perCompany) {
+        List<Review> reviews = reviewRepo.findLatestByCompanyIdIn(companyIds, perCompany);
+        List<ReviewDto> reviewDtos = new ArrayList<>(reviews.size());
         for (Review review : reviews) {
             ReviewDto reviewDto = dtoMapper.mapToDto(review);
+            reviewDto.setCompanyId(review.getCompanyId());
             reviewDtos.add(reviewDto);
         }
+        log.info("Found {} reviews for {} companies", reviewDtos.size(), companyIds.size());
         return reviewDtos;
     }
 
+    @Override
+    public RatingSummary getRatingSummary(Long companyId) {
+        log.info("Executing getRatingSummary() for Company ID: {}", companyId);
+        return reviewRepo.summarizeByCompanyId(companyId)
+                .orElseGet(() -> new RatingSummary(companyId, 0.0, 0L, 0.0));
+    }
+
+    @Override
+    public List<RatingSummary> getRatingSummaries(Long fromCompanyId, Long toCompanyId) {
+        log.info("Executing getRatingSummaries() for company IDs {} to {}", fromCompanyId, toCompanyId);
+        return reviewRepo.summarizeByCompanyIdRange(fromCompanyId, toCompanyId);
+    }
+
+    @Override
+    public List<RatingSummary> getRatingSummaries(Collection<Long> companyIds) {
+        log.info("Executing getRatingSummaries() for {} companies", companyIds.size());
+        return reviewRepo.summarizeByCompanyIds(companyIds);
+    }
+
+    // Single primary key lookup, independent of how many reviews the company has
+    @Override
+    public RatingHistogramDto getRatingHistogram(Long companyId) {
+        log.info("Executing getRatingHistogram() for Company ID: {}", companyId);
+        RatingHistogram histogram = histogramRepo.findById(companyId)
+                .orElseGet(() -> new RatingHistogram(companyId, 0, 0, 0, 0, 0, 0.0, 0.0, 0.0, 0L));
+
+        Map<Integer, Long> counts = new LinkedHashMap<>();
+        counts.put(1, histogram.getOneStarCount());
+        counts.put(2, histogram.getTwoStarCount());
+        counts.put(3, histogram.getThreeStarCount());
+        counts.put(4, histogram.getFourStarCount());
+        counts.put(5, histogram.getFiveStarCount());
+        long reviewCount = counts.values().stream().mapToLong(Long::longValue).sum();
+
+        RatingHistogramDto histogramDto = new RatingHistogramDto();
+        histogramDto.setCompanyId(companyId);
+        histogramDto.setCounts(counts);
+        histogramDto.setReviewCount(reviewCount);
+        histogramDto.setAverageRating(reviewCount == 0 ? 0.0 : histogram.getRatingSum() / reviewCount);
+        histogramDto.setDecayedAverageRating(ratingDecay.decayedAverage(histogram));
+        histogramDto.setDecayedReviewCount(ratingDecay.decayedCount(histogram, ratingDecay.now()));
+        return histogramDto;
+    }
+
+    // Seeds histogram rows for companies whose reviews predate the histogram table. Decay weights are
+    // computed here: postedAt was written in the JVM's zone, the database would read it in its own.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillHistograms() {
+        List<Long> companyIds = histogramRepo.findCompanyIdsWithoutHistogram();
+        long now = ratingDecay.now();
+        int seeded = 0;
+        for (int from = 0; from < companyIds.size(); from += BACKFILL_CHUNK_SIZE) {
+            List<Long> chunk = companyIds.subList(from, Math.min(from + BACKFILL_CHUNK_SIZE, companyIds.size()));
+            Map<Long, RatingHistogram> histograms = new LinkedHashMap<>();
+            for (Review review : reviewRepo.findByCompanyIdIn(chunk)) {
+                RatingHistogram histogram = histograms.computeIfAbsent(review.getCompanyId(),
+                        id -> new RatingHistogram(id, 0, 0, 0, 0, 0, 0.0, 0.0, 0.0, now));
+                addToBackfill(histogram, review, now);
+            }
+            for (RatingHistogram histogram : histograms.values()) {
+                seeded += histogramRepo.insertIfMissing(histogram.getCompanyId(),
+                        histogram.getOneStarCount(), histogram.getTwoStarCount(), histogram.getThreeStarCount(),
+                        histogram.getFourStarCount(), histogram.getFiveStarCount(), histogram.getRatingSum(),
+                        histogram.getDecayedRatingSum(), histogram.getDecayedCount(), histogram.getDecayedAt());
+            }
+        }
+        if (seeded > 0) {
+            log.info("Seeded rating histograms for {} companies", seeded);
+        }
+    }
+
     @Override
     @Transactional
     public boolean deleteReviewByCompId(Long companyId) {
         log.info("Executing deleteReviewByCompId() with Company ID: {}", companyId);
         int deleteCount = reviewRepo.deleteByCompanyId(companyId);
+        histogramRepo.deleteByCompanyId(companyId);
         if (deleteCount == 0) {
             log.warn("No reviews found for company id: {}", companyId);
             return false;
@@ -78,4 +216,42 @@ public class ReviewServiceImpl implements ReviewService {
         log.info("Reviews deleted count: {}", deleteCount);
         return true;
     }
+
+    // Unparsable postedAt values add no decayed weight
+    private void addToBackfill(RatingHistogram histogram, Review review, long now) {
+        double rating = review.getRating();
+        switch (RatingHistogram.starOf(rating)) {
+            case 1 -> histogram.setOneStarCount(histogram.getOneStarCount() + 1);
+            case 2 -> histogram.setTwoStarCount(histogram.getTwoStarCount() + 1);
+            case 3 -> histogram.setThreeStarCount(histogram.getThreeStarCount() + 1);
+            case 4 -> histogram.setFourStarCount(histogram.getFourStarCount() + 1);
+            default -> histogram.setFiveStarCount(histogram.getFiveStarCount() + 1);
+        }
+        histogram.setRatingSum(histogram.getRatingSum() + rating);
+        if (review.getPostedAt() == null) {
+            return;
+        }
+        try {
+            long postedAt = LocalDateTime.parse(review.getPostedAt(), POSTED_AT_FORMAT)
+                    .atZone(ZoneId.systemDefault()).toEpochSecond();
+            double weight = ratingDecay.weight(postedAt, now);
+            histogram.setDecayedRatingSum(histogram.getDecayedRatingSum() + rating * weight);
+            histogram.setDecayedCount(histogram.getDecayedCount() + weight);
+        } catch (DateTimeParseException e) {
+            log.warn("Review with ID: {} has unparsable postedAt: {}", review.getId(), review.getPostedAt());
+        }
+    }
+
+    private void addToHistogram(Long companyId, double rating) {
+        int star = RatingHistogram.starOf(rating);
+        histogramRepo.addRatings(companyId,
+                star == 1 ? 1 : 0,
+                star == 2 ? 1 : 0,
+                star == 3 ? 1 : 0,
+                star == 4 ? 1 : 0,
+                star == 5 ? 1 : 0,
+                rating,
+                ratingDecay.getLambda(),
+                ratingDecay.now());
+    }
 }
\ No newline at end of file
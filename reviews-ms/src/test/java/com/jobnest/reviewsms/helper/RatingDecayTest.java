@@ -0,0 +1,82 @@
+package com.jobnest.reviewsms.helper;
+
+import com.jobnest.reviewsms.entities.RatingHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RatingDecayTest {
+
+    private static final long DAY = Duration.ofDays(1).getSeconds();
+    private static final long T0 = 1_700_000_000L;
+    private final RatingDecay ratingDecay = new RatingDecay(Duration.ofDays(180));
+
+    @Test
+    void weightHalvesEveryHalfLife() {
+        assertEquals(1.0, ratingDecay.weight(T0, T0), 1e-12);
+        assertEquals(0.5, ratingDecay.weight(T0, T0 + 180 * DAY), 1e-12);
+        assertEquals(0.25, ratingDecay.weight(T0, T0 + 360 * DAY), 1e-12);
+    }
+
+    @Test
+    void decayedAverageFavoursRecentReviews() {
+        // A 1-star review one half-life old and a 5-star review posted now
+        RatingHistogram histogram = histogram(T0);
+        add(histogram, 1.0, T0 - 180 * DAY, T0);
+        add(histogram, 5.0, T0, T0);
+
+        assertEquals((1.0 * 0.5 + 5.0) / 1.5, ratingDecay.decayedAverage(histogram), 1e-9);
+        assertEquals(1.5, ratingDecay.decayedCount(histogram, T0), 1e-9);
+    }
+
+    @Test
+    void decayedAverageOfEmptyHistogramIsZero() {
+        assertEquals(0.0, ratingDecay.decayedAverage(histogram(T0)));
+        assertEquals(0.0, ratingDecay.decayedCount(histogram(T0), T0 + DAY));
+    }
+
+    @Test
+    void decayedCountKeepsDecayingAfterDecayedAt() {
+        RatingHistogram histogram = histogram(T0);
+        add(histogram, 4.0, T0, T0);
+
+        assertEquals(0.5, ratingDecay.decayedCount(histogram, T0 + 180 * DAY), 1e-12);
+    }
+
+    @Test
+    void rebaseKeepsAverageAndCountAndLaterAdditions() {
+        RatingHistogram original = histogram(T0);
+        add(original, 2.0, T0 - 30 * DAY, T0);
+        add(original, 5.0, T0 - 400 * DAY, T0);
+
+        // What compactDecay does to a row, moving decayedAt forward to a later now
+        long compactedAt = T0 + 90 * DAY;
+        RatingHistogram rebased = histogram(compactedAt);
+        double factor = ratingDecay.weight(original.getDecayedAt(), compactedAt);
+        rebased.setDecayedRatingSum(original.getDecayedRatingSum() * factor);
+        rebased.setDecayedCount(original.getDecayedCount() * factor);
+
+        assertEquals(ratingDecay.decayedAverage(original), ratingDecay.decayedAverage(rebased), 1e-12);
+        long later = T0 + 200 * DAY;
+        assertEquals(ratingDecay.decayedCount(original, later), ratingDecay.decayedCount(rebased, later), 1e-12);
+
+        // A review added afterwards lands with the same relative weight on either row
+        add(original, 3.0, later, later);
+        add(rebased, 3.0, later, later);
+        assertEquals(ratingDecay.decayedAverage(original), ratingDecay.decayedAverage(rebased), 1e-12);
+        assertEquals(ratingDecay.decayedCount(original, later), ratingDecay.decayedCount(rebased, later), 1e-12);
+    }
+
+    private static RatingHistogram histogram(long decayedAt) {
+        return new RatingHistogram(1L, 0, 0, 0, 0, 0, 0.0, 0.0, 0.0, decayedAt);
+    }
+
+    // Mirrors addRatings: a review posted at postedAt, added at now, scaled to the row's decayedAt
+    private void add(RatingHistogram histogram, double rating, long postedAt, long now) {
+        double weight = ratingDecay.weight(postedAt, now) / ratingDecay.weight(histogram.getDecayedAt(), now);
+        histogram.setDecayedRatingSum(histogram.getDecayedRatingSum() + rating * weight);
+        histogram.setDecayedCount(histogram.getDecayedCount() + weight);
+    }
+}
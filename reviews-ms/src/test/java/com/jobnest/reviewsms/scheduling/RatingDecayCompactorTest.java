@@ -0,0 +1,71 @@
+package com.jobnest.reviewsms.scheduling;
+
+import com.jobnest.reviewsms.helper.RatingDecay;
+import com.jobnest.reviewsms.repository.RatingHistogramRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RatingDecayCompactorTest {
+
+    private static final long NOW = 1_700_000_000L;
+    private final RatingHistogramRepository histogramRepo = mock(RatingHistogramRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final RatingDecay ratingDecay = new RatingDecay(Duration.ofDays(180)) {
+        @Override
+        public long now() {
+            return NOW;
+        }
+    };
+    private final RatingDecayCompactor compactor =
+            new RatingDecayCompactor(histogramRepo, ratingDecay, transactionTemplate, 1000);
+
+    @BeforeEach
+    void runCallbacksInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void rebasesEveryIdRangeToTheSameNow() {
+        when(histogramRepo.findMinCompanyId()).thenReturn(1L);
+        when(histogramRepo.findMaxCompanyId()).thenReturn(2500L);
+
+        compactor.compact();
+
+        double lambda = ratingDecay.getLambda();
+        verify(histogramRepo).compactDecay(1L, 1000L, lambda, NOW);
+        verify(histogramRepo).compactDecay(1001L, 2000L, lambda, NOW);
+        verify(histogramRepo).compactDecay(2001L, 2500L, lambda, NOW);
+        verify(histogramRepo, times(3)).compactDecay(anyLong(), anyLong(), anyDouble(), anyLong());
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+
+    @Test
+    void singleCompanyIsOneRange() {
+        when(histogramRepo.findMinCompanyId()).thenReturn(42L);
+        when(histogramRepo.findMaxCompanyId()).thenReturn(42L);
+
+        compactor.compact();
+
+        verify(histogramRepo).compactDecay(42L, 42L, ratingDecay.getLambda(), NOW);
+        verify(histogramRepo, times(1)).compactDecay(anyLong(), anyLong(), anyDouble(), anyLong());
+    }
+
+    @Test
+    void emptyTableIsNotTouched() {
+        when(histogramRepo.findMinCompanyId()).thenReturn(null);
+        when(histogramRepo.findMaxCompanyId()).thenReturn(null);
+
+        compactor.compact();
+
+        verify(histogramRepo, never()).compactDecay(anyLong(), anyLong(), anyDouble(), anyLong());
+        verifyNoInteractions(transactionTemplate);
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import javax.validation.Valid;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @FeignClient(name = "COMPANY-SERVICE")
 public interface CompanyClient {
@@ -17,6 +18,10 @@ public interface CompanyClient {
     @GetMapping("/api/companies/advSearch")
     ResponseEntity<ApiResponse<List<CompanyDto>>> searchCompanies(@RequestParam Map<String, String> searchCriteria);
 
+    // Header projection only, at most 100 ids per call
+    @GetMapping("/api/companies/headers")
+    ResponseEntity<ApiResponse<List<CompanyDto>>> getCompanyHeaders(@RequestParam("ids") Set<Long> ids);
+
     @GetMapping("/api/companies/search")
     ResponseEntity<ApiResponse<List<CompanyDto>>> searchJobsByKeyword(@Valid @RequestParam("keyword") String keyword);
 }
\ No newline at end of file
@@ -20,6 +20,8 @@ public class JobDto {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private String companyName;
 
-//    private Long companyId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long companyId;
+
     private String companyUrl;
 }
\ No newline at end of file
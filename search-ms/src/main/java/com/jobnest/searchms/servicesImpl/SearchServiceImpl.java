@@ -16,14 +16,13 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 @Service
 public class SearchServiceImpl implements SearchService {
 
     private static final Logger log = LoggerFactory.getLogger(SearchServiceImpl.class);
+    private static final int COMPANY_BATCH_SIZE = 100;
 
     private final JobClient jobClient;
     private final CompanyClient companyClient;
@@ -46,6 +45,7 @@ public class SearchServiceImpl implements SearchService {
             jobDtos = responseEntity.getBody().getData();
         }
         log.info("Jobs fetched successfully");
+        addCompanyNames(jobDtos);
         return jobDtos;
     }
 
@@ -96,6 +96,7 @@ public class SearchServiceImpl implements SearchService {
         if (responseEntity.getStatusCode() == HttpStatus.OK) {
             jobDtos = responseEntity.getBody().getData();
         }
+        addCompanyNames(jobDtos);
         return jobDtos;
     }
 
@@ -110,6 +111,30 @@ public class SearchServiceImpl implements SearchService {
         }
     }
 
+    // One COMPANY-SERVICE call per 100 distinct companies instead of one per job.
+    // Names are optional, the jobs are returned without them if the lookup fails.
+    private void addCompanyNames(List<JobDto> jobDtos) {
+        if (jobDtos == null || jobDtos.isEmpty()) {
+            return;
+        }
+        List<Long> companyIds = new ArrayList<>(new LinkedHashSet<>(
+                jobDtos.stream().map(JobDto::getCompanyId).filter(Objects::nonNull).toList()));
+        Map<Long, String> companyNames = new HashMap<>();
+        try {
+            for (int from = 0; from < companyIds.size(); from += COMPANY_BATCH_SIZE) {
+                Set<Long> batch = new HashSet<>(companyIds.subList(from, Math.min(from + COMPANY_BATCH_SIZE, companyIds.size())));
+                log.info("Feign call to COMPANY-SERVICE to fetch {} company headers", batch.size());
+                ResponseEntity<ApiResponse<List<CompanyDto>>> responseEntity = companyClient.getCompanyHeaders(batch);
+                if (responseEntity.getBody() != null && responseEntity.getBody().getData() != null) {
+                    responseEntity.getBody().getData().forEach(company -> companyNames.put(company.getId(), company.getName()));
+                }
+            }
+        } catch (FeignException ex) {
+            log.warn("Company names unavailable, returning jobs without them: {}", ex.getMessage());
+        }
+        jobDtos.forEach(jobDto -> jobDto.setCompanyName(companyNames.get(jobDto.getCompanyId())));
+    }
+
     @Override
     @Retry(name = "external-client-breaker", fallbackMethod = "fallbackGetCompaniesByKeyword")
     public List<CompanyDto> getCompaniesByKeyword(String keyword) {